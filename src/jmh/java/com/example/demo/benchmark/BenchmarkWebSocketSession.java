@@ -0,0 +1,97 @@
+package com.example.demo.benchmark;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory session that only counts what it is sent, so benchmarks measure the
+ * handler rather than a network stack.
+ */
+public class BenchmarkWebSocketSession implements WebSocketSession {
+
+    private final String id;
+    private final URI uri;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final AtomicLong messagesReceived = new AtomicLong();
+    private final AtomicLong payloadLength = new AtomicLong();
+    private volatile boolean open = true;
+
+    public BenchmarkWebSocketSession(String id, URI uri) {
+        this.id = id;
+        this.uri = uri;
+    }
+
+    public long getMessagesReceived() {
+        return messagesReceived.get();
+    }
+
+    public long getPayloadLength() {
+        return payloadLength.get();
+    }
+
+    @Override
+    public String getId() { return id; }
+
+    @Override
+    public URI getUri() { return uri; }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() { return new HttpHeaders(); }
+
+    @Override
+    public Map<String, Object> getAttributes() { return attributes; }
+
+    @Override
+    public Principal getPrincipal() { return null; }
+
+    @Override
+    public InetSocketAddress getLocalAddress() { return null; }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() { return null; }
+
+    @Override
+    public String getAcceptedProtocol() { return null; }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) { }
+
+    @Override
+    public int getTextMessageSizeLimit() { return Integer.MAX_VALUE; }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) { }
+
+    @Override
+    public int getBinaryMessageSizeLimit() { return Integer.MAX_VALUE; }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() { return Collections.emptyList(); }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        messagesReceived.incrementAndGet();
+        payloadLength.addAndGet(message.getPayloadLength());
+    }
+
+    @Override
+    public boolean isOpen() { return open; }
+
+    @Override
+    public void close() { open = false; }
+
+    @Override
+    public void close(CloseStatus status) { open = false; }
+}
@@ -0,0 +1,166 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.config.WebSocketProperties;
+import com.example.demo.model.Event;
+import com.example.demo.model.Task;
+import com.example.demo.websocket.EventProgressWebSocketHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the original reflective, encode-per-session broadcast with the typed
+ * encode-once pipeline in {@link EventProgressWebSocketHandler}. {@code typedGlobalBroadcast}
+ * goes through {@code broadcastMessage}, which reaches every open session regardless of subscriptions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadcastBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int sessionCount;
+
+    private final String eventId = UUID.randomUUID().toString();
+    private EventProgressWebSocketHandler handler;
+    private LegacyBroadcaster legacy;
+    private Task task;
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Drain inline so the measurement includes the session writes, and disable
+        // coalescing so every update is encoded and fanned out like the legacy path
+        WebSocketProperties properties = new WebSocketProperties();
+        properties.getBatch().setWindowMs(0);
+        handler = new EventProgressWebSocketHandler(properties, Runnable::run, new ThreadPoolTaskScheduler(),
+                new SimpleMeterRegistry());
+        List<WebSocketSession> legacySessions = new ArrayList<>(sessionCount);
+        URI uri = URI.create("ws://localhost/ws/events?eventIds=" + eventId);
+        for (int i = 0; i < sessionCount; i++) {
+            handler.afterConnectionEstablished(new BenchmarkWebSocketSession("s" + i, uri));
+            legacySessions.add(new BenchmarkWebSocketSession("l" + i, uri));
+        }
+        legacy = new LegacyBroadcaster(legacySessions);
+
+        task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Confirm catering headcount");
+        task.setDescription("Send the final numbers to the venue before Friday");
+        task.setCompleted(true);
+        task.setDeadline(LocalDate.now().plusDays(3));
+
+        event = new Event();
+        event.setId(UUID.fromString(eventId));
+        event.setName("Annual offsite");
+        event.setLocation("Main hall");
+        event.setDate(LocalDate.now().plusDays(30));
+        event.setVersion(7L);
+    }
+
+    @Benchmark
+    public void legacyReflectivePerSession() {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "TASK_UPDATE");
+        message.put("eventId", eventId);
+        message.put("data", task);
+        legacy.broadcast(message);
+    }
+
+    @Benchmark
+    public void typedEncodeOnce() {
+        handler.broadcastTaskUpdate(eventId, task);
+    }
+
+    @Benchmark
+    public void typedGlobalBroadcast() {
+        handler.broadcastEventUpdate(event);
+    }
+
+    /**
+     * Verbatim copy of the pre-change broadcast path, kept as the baseline.
+     */
+    static final class LegacyBroadcaster {
+
+        private final List<WebSocketSession> sessions;
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        LegacyBroadcaster(List<WebSocketSession> sessions) {
+            this.sessions = sessions;
+            objectMapper.registerModule(new JavaTimeModule());
+            objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        }
+
+        void broadcast(Map<String, Object> message) {
+            String messageJson = createMessageJson(message);
+            sessions.removeIf(session -> {
+                try {
+                    if (session.isOpen()) {
+                        session.sendMessage(new TextMessage(messageJson));
+                        return false;
+                    }
+                    return true;
+                } catch (Exception e) {
+                    return true;
+                }
+            });
+        }
+
+        private String createMessageJson(Map<String, Object> message) {
+            try {
+                Map<String, Object> safeMessage = new HashMap<>(message);
+                Object data = safeMessage.get("data");
+                if (data != null) {
+                    safeMessage.put("data", createSimplifiedEntity(data));
+                }
+                return objectMapper.writeValueAsString(safeMessage);
+            } catch (Exception e) {
+                return "{}";
+            }
+        }
+
+        private Object createSimplifiedEntity(Object entity) throws Exception {
+            Map<String, Object> simplified = new HashMap<>();
+            switch (entity.getClass().getSimpleName()) {
+                case "Task":
+                    simplified.put("id", entity.getClass().getMethod("getId").invoke(entity));
+                    simplified.put("title", entity.getClass().getMethod("getTitle").invoke(entity));
+                    simplified.put("description", entity.getClass().getMethod("getDescription").invoke(entity));
+                    simplified.put("completed", entity.getClass().getMethod("isCompleted").invoke(entity));
+                    break;
+                default:
+                    simplified.put("updated", true);
+            }
+            return simplified;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Requests per second against the running application under each datasource profile, with
+ * 16 concurrent clients reading task listings and creating tasks over HTTP. Runs on in-memory
+ * H2, so it shows the cost of the single pooled connection rather than Postgres statement
+ * preparation; point SPRING_DATASOURCE_URL at a local Postgres to include that as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class DataSourceProfileBenchmark {
+
+    private static final int EVENTS = 32;
+    private static final int TASKS_PER_EVENT = 50;
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+
+    @Param({"pooler-safe", "direct"})
+    public String profile;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private final List<String> eventIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JwtAuthenticationFilterBenchmark.quietLogging();
+        String url = System.getenv().getOrDefault("SPRING_DATASOURCE_URL",
+                "jdbc:h2:mem:datasource-profile;DB_CLOSE_DELAY=-1");
+        boolean h2 = url.startsWith("jdbc:h2:");
+        List<String> args = new ArrayList<>(List.of(
+                "--DATASOURCE_PROFILE=" + profile,
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--supabase.jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret",
+                "--logging.level.root=WARN"));
+        if (h2) {
+            args.add("--spring.datasource.username=sa");
+            args.add("--spring.datasource.password=");
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            args.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        }
+        context = SpringApplication.run(DemoApplication.class, args.toArray(String[]::new));
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/events";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        for (int e = 0; e < EVENTS; e++) {
+            String eventId = idOf(post(baseUrl,
+                    "{\"name\":\"Event " + e + "\",\"date\":\"2026-12-01\",\"location\":\"Hall\"}"));
+            eventIds.add(eventId);
+            for (int t = 0; t < TASKS_PER_EVENT; t++) {
+                post(baseUrl + "/" + eventId + "/tasks",
+                        "{\"title\":\"Task " + t + "\",\"deadline\":\"2026-11-" + (10 + t % 20) + "\"}");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String listTasks() throws Exception {
+        return get(baseUrl + "/" + randomEvent() + "/tasks?limit=50");
+    }
+
+    @Benchmark
+    public String createTask() throws Exception {
+        return post(baseUrl + "/" + randomEvent() + "/tasks", "{\"title\":\"Benchmark task\"}");
+    }
+
+    private String randomEvent() {
+        return eventIds.get(ThreadLocalRandom.current().nextInt(eventIds.size()));
+    }
+
+    private String get(String url) throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(url)).GET().build());
+    }
+
+    private String post(String url, String json) throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    private String send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static String idOf(String json) {
+        Matcher matcher = ID.matcher(json);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No id in " + json);
+        }
+        return matcher.group(1);
+    }
+}
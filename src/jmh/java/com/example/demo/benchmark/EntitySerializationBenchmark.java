@@ -0,0 +1,110 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.AttendeeView;
+import com.example.demo.dto.TaskView;
+import com.example.demo.model.Attendee;
+import com.example.demo.model.Event;
+import com.example.demo.model.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of task and attendee lists as the REST controllers write them: entity
+ * lists (with the event and assignee attached) next to the projection records the listing
+ * endpoints return. The mapper is built like Spring Boot's default one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntitySerializationBenchmark {
+
+    @Param({"10", "200", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<Attendee> attendees = new ArrayList<>();
+    private final List<TaskView> taskViews = new ArrayList<>();
+    private final List<AttendeeView> attendeeViews = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setName("Annual offsite");
+        event.setLocation("Main hall");
+        event.setDate(LocalDate.now().plusDays(30));
+        event.setVersion(1L);
+
+        for (int i = 0; i < size; i++) {
+            Attendee attendee = new Attendee();
+            attendee.setId(UUID.randomUUID());
+            attendee.setName("Attendee " + i);
+            attendee.setEmail("attendee" + i + "@example.com");
+            attendee.setVersion(0L);
+            attendee.setEvent(event);
+            attendees.add(attendee);
+            attendeeViews.add(new AttendeeView(attendee.getId(), attendee.getName(), attendee.getEmail(),
+                    attendee.getVersion(), attendee.getEventVersion()));
+
+            Task task = new Task();
+            task.setId(UUID.randomUUID());
+            task.setTitle("Task " + i);
+            task.setDescription("Follow up with the venue about item " + i);
+            task.setCompleted(i % 3 == 0);
+            task.setDeadline(LocalDate.now().plusDays(i % 20));
+            task.setVersion(0L);
+            task.setEvent(event);
+            task.setAssignedAttendee(i % 2 == 0 ? attendee : null);
+            tasks.add(task);
+            taskViews.add(new TaskView(task.getId(), task.getTitle(), task.getDescription(), task.isCompleted(),
+                    task.getDeadline(), task.getVersion(), task.getEventVersion(),
+                    task.getAssignedAttendee() != null ? attendee.getId() : null,
+                    task.getAssignedAttendee() != null ? attendee.getName() : null,
+                    task.getAssignedAttendee() != null ? attendee.getEmail() : null));
+        }
+    }
+
+    @Benchmark
+    public byte[] taskEntities() throws Exception {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] taskViews() throws Exception {
+        return objectMapper.writeValueAsBytes(taskViews);
+    }
+
+    @Benchmark
+    public byte[] attendeeEntities() throws Exception {
+        return objectMapper.writeValueAsBytes(attendees);
+    }
+
+    @Benchmark
+    public byte[] attendeeViews() throws Exception {
+        return objectMapper.writeValueAsBytes(attendeeViews);
+    }
+}
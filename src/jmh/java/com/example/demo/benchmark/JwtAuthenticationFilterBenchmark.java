@@ -0,0 +1,206 @@
+package com.example.demo.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.demo.config.AccessLogFilter;
+import com.example.demo.model.User;
+import com.example.demo.security.JwtAuthenticationFilter;
+import com.example.demo.security.JwtUtil;
+import com.example.demo.security.UserPrincipal;
+import com.example.demo.service.UserService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link JwtAuthenticationFilter} for a repeated bearer token, with and
+ * without the verified-claims cache. The user lookup is stubbed so only auth work is measured.
+ * {@code logLevel=INFO} formats log output like production (into a discarding stream), which is
+ * where per-request INFO lines cost time. The access-logged variants put {@link AccessLogFilter}
+ * in front, logging every request or a 10% sample through an async appender.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    // HttpServlet's default doGet builds a localized 405 response, which would dominate the measurement
+    private static final HttpServlet NO_OP_SERVLET = new HttpServlet() {
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) {
+        }
+    };
+
+    @Param({"true", "false"})
+    public boolean claimsCacheEnabled;
+
+    @Param({"WARN", "INFO"})
+    public String logLevel;
+
+    private JwtAuthenticationFilter filter;
+    private AccessLogFilter accessLogFilter;
+    private AccessLogFilter sampledAccessLogFilter;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        discardingLogging(ch.qos.logback.classic.Level.toLevel(logLevel));
+
+        JwtUtil jwtUtil = newJwtUtil(claimsCacheEnabled);
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userService", new FixedUserService());
+
+        accessLogFilter = newAccessLogFilter(1.0);
+        sampledAccessLogFilter = newAccessLogFilter(0.1);
+
+        token = Jwts.builder()
+                .setSubject("organizer@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            new MockFilterChain(NO_OP_SERVLET, filter).doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse accessLoggedRequest() throws Exception {
+        return throughAccessLog(accessLogFilter);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse sampledAccessLoggedRequest() throws Exception {
+        return throughAccessLog(sampledAccessLogFilter);
+    }
+
+    private MockHttpServletResponse throughAccessLog(AccessLogFilter accessLog) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            new MockFilterChain(NO_OP_SERVLET, accessLog, filter).doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    private static AccessLogFilter newAccessLogFilter(double sampleRate) {
+        AccessLogFilter accessLog = new AccessLogFilter();
+        ReflectionTestUtils.setField(accessLog, "enabled", true);
+        ReflectionTestUtils.setField(accessLog, "sampleRate", sampleRate);
+        ReflectionTestUtils.setField(accessLog, "slowThresholdMs", 1000L);
+        ReflectionTestUtils.setField(accessLog, "principalHashKey", "");
+        ReflectionTestUtils.invokeMethod(accessLog, "init");
+        return accessLog;
+    }
+
+    static JwtUtil newJwtUtil(boolean claimsCacheEnabled) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheEnabled", claimsCacheEnabled);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaximumSize", 10_000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxTtlSeconds", 300L);
+        ReflectionTestUtils.setField(jwtUtil, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    // Formats every event with a console-style pattern and discards the bytes; the access logger
+    // goes through an AsyncAppender as configured in logback-spring.xml
+    static void discardingLogging(ch.qos.logback.classic.Level level) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(level);
+        root.addAppender(discardingAppender(context,
+                "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n"));
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(0);
+        async.setNeverBlock(true);
+        async.addAppender(discardingAppender(context, "%msg%n"));
+        async.start();
+        ch.qos.logback.classic.Logger access = context.getLogger("access");
+        access.setLevel(ch.qos.logback.classic.Level.INFO);
+        access.setAdditive(false);
+        access.addAppender(async);
+    }
+
+    private static OutputStreamAppender<ILoggingEvent> discardingAppender(LoggerContext context, String pattern) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(pattern);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    // Without Spring Boot's logging setup logback defaults to DEBUG on the console
+    static void quietLogging() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+                .setLevel(ch.qos.logback.classic.Level.WARN);
+    }
+
+    static final class FixedUserService extends UserService {
+
+        private final UserPrincipal user = UserPrincipal.of(new User("organizer@example.com", "Organizer", null, null));
+
+        @Override
+        public Optional<UserPrincipal> findPrincipalByEmail(String email) {
+            return Optional.of(user);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link JwtUtil} on its own: a full parse and HMAC check through {@code extractEmail},
+ * and {@code validateAndGetClaims} with and without the verified-claims cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    @Param({"true", "false"})
+    public boolean claimsCacheEnabled;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtAuthenticationFilterBenchmark.quietLogging();
+        jwtUtil = JwtAuthenticationFilterBenchmark.newJwtUtil(claimsCacheEnabled);
+        token = Jwts.builder()
+                .setSubject("organizer@example.com")
+                .claim("role", "authenticated")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(JwtAuthenticationFilterBenchmark.SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    // Always parses and verifies, whatever the cache setting
+    @Benchmark
+    public String parse() {
+        return jwtUtil.extractEmail(token);
+    }
+
+    @Benchmark
+    public Claims validateAndGetClaims() {
+        return jwtUtil.validateAndGetClaims(token);
+    }
+}
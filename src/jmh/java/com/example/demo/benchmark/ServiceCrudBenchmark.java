@@ -0,0 +1,134 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.dto.AttendeeView;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.TaskFilter;
+import com.example.demo.dto.TaskView;
+import com.example.demo.model.Attendee;
+import com.example.demo.model.Event;
+import com.example.demo.model.Task;
+import com.example.demo.service.AttendeeService;
+import com.example.demo.service.EventService;
+import com.example.demo.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskService} and {@link AttendeeService} called directly against embedded H2, without
+ * HTTP or JSON. Each lifecycle benchmark creates, updates and deletes one row, so the tables stay
+ * at their seeded size; the listing benchmarks read the first page of a seeded event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceCrudBenchmark {
+
+    private static final int SEEDED_TASKS = 500;
+    private static final int SEEDED_ATTENDEES = 500;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private AttendeeService attendeeService;
+    private UUID eventId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtAuthenticationFilterBenchmark.quietLogging();
+        context = SpringApplication.run(DemoApplication.class,
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:service-crud;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--supabase.jwt.secret=" + JwtAuthenticationFilterBenchmark.SECRET,
+                "--access-log.enabled=false",
+                "--logging.level.root=WARN");
+        taskService = context.getBean(TaskService.class);
+        attendeeService = context.getBean(AttendeeService.class);
+
+        Event event = new Event();
+        event.setName("Benchmark event");
+        event.setDate(LocalDate.now().plusDays(30));
+        event.setLocation("Main hall");
+        eventId = context.getBean(EventService.class).createEvent(event).getId();
+        for (int i = 0; i < SEEDED_ATTENDEES; i++) {
+            attendeeService.addAttendee(eventId, attendee(i));
+        }
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            taskService.addTask(eventId, task("Seeded task " + i, i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task taskLifecycle() {
+        Task created = taskService.addTask(eventId, task("Benchmark task", 3));
+        Task completed = new Task();
+        completed.setCompleted(true);
+        Task updated = taskService.updateTask(created.getId(), completed);
+        taskService.deleteTask(created.getId());
+        return updated;
+    }
+
+    @Benchmark
+    public Attendee attendeeLifecycle() {
+        Attendee created = attendeeService.addAttendee(eventId, attendee(-1));
+        Attendee renamed = new Attendee();
+        renamed.setName("Renamed attendee");
+        renamed.setEmail(created.getEmail());
+        Attendee updated = attendeeService.updateAttendee(created.getId(), renamed);
+        attendeeService.deleteAttendee(created.getId());
+        return updated;
+    }
+
+    @Benchmark
+    public CursorPage<TaskView> listTasks() {
+        return taskService.getTasksPage(eventId.toString(), new TaskFilter(null, null, null, null), null, 50);
+    }
+
+    @Benchmark
+    public CursorPage<AttendeeView> listAttendees() {
+        return attendeeService.getAttendeesPage(eventId.toString(), null, 50);
+    }
+
+    private static Task task(String title, int daysAhead) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Created by ServiceCrudBenchmark");
+        task.setDeadline(LocalDate.now().plusDays(daysAhead % 20));
+        return task;
+    }
+
+    private static Attendee attendee(int i) {
+        Attendee attendee = new Attendee();
+        attendee.setName("Attendee " + i);
+        attendee.setEmail(i < 0 ? "benchmark-" + UUID.randomUUID() + "@example.com" : "attendee" + i + "@example.com");
+        return attendee;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second inserted into an attendee-shaped table keyed by random v4 or time-ordered v7
+ * UUIDs, in JDBC batches, with the table growing across iterations. The trial ends by printing the
+ * table and index footprint. Defaults to a file-backed H2 database under target/; point
+ * UUID_BENCHMARK_URL (with _USER and _PASSWORD) at Postgres to see the B-tree page split effect,
+ * reported there as primary key and event_id index sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UuidKeyBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int EVENTS = 1000;
+
+    @Param({"v4", "v7"})
+    public String keyType;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private boolean postgres;
+    private String table;
+    private final List<UUID> eventIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String url = System.getenv().getOrDefault("UUID_BENCHMARK_URL",
+                "jdbc:h2:file:./target/uuid-key-benchmark");
+        postgres = url.startsWith("jdbc:postgresql:");
+        connection = DriverManager.getConnection(url,
+                System.getenv().getOrDefault("UUID_BENCHMARK_USER", "sa"),
+                System.getenv().getOrDefault("UUID_BENCHMARK_PASSWORD", ""));
+        connection.setAutoCommit(false);
+        table = "uuid_bench_" + keyType;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + table);
+            statement.execute("create table " + table + " (id uuid primary key, event_id uuid not null, "
+                    + "name varchar(255), email varchar(255))");
+            statement.execute("create index " + table + "_event_id on " + table + " (event_id)");
+        }
+        connection.commit();
+        // Events are created over time too, so under v7 their ids also cluster
+        for (int i = 0; i < EVENTS; i++) {
+            eventIds.add(nextId());
+        }
+        insert = connection.prepareStatement("insert into " + table + " (id, event_id, name, email) values (?, ?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        insert.close();
+        long rows;
+        try (Statement statement = connection.createStatement();
+             ResultSet count = statement.executeQuery("select count(*) from " + table)) {
+            count.next();
+            rows = count.getLong(1);
+        }
+        System.out.printf("%n%s: %d rows, %s%n", keyType, rows, footprint());
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, nextId());
+            insert.setObject(2, eventIds.get(random.nextInt(EVENTS)));
+            insert.setString(3, "Attendee " + i);
+            insert.setString(4, "attendee" + i + "@example.com");
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private UUID nextId() {
+        return "v7".equals(keyType) ? UuidV7Generator.next() : UUID.randomUUID();
+    }
+
+    private String footprint() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            if (postgres) {
+                try (ResultSet sizes = statement.executeQuery("select pg_relation_size('" + table + "_pkey'), "
+                        + "pg_relation_size('" + table + "_event_id'), pg_table_size('" + table + "')")) {
+                    sizes.next();
+                    return String.format("primary key %d kB, event_id index %d kB, table %d kB",
+                            sizes.getLong(1) >> 10, sizes.getLong(2) >> 10, sizes.getLong(3) >> 10);
+                }
+            }
+            // H2 only reports table and indexes together
+            try (ResultSet size = statement.executeQuery("select disk_space_used('" + table.toUpperCase() + "')")) {
+                size.next();
+                return String.format("table and indexes %d kB", size.getLong(1) >> 10);
+            }
+        }
+    }
+}
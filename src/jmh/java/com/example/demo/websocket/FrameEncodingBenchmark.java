@@ -0,0 +1,91 @@
+package com.example.demo.websocket;
+
+import com.example.demo.config.WebSocketProperties;
+import com.example.demo.model.Attendee;
+import com.example.demo.model.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.TextMessage;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding of a single frame with no recipients: {@link FramePayloads#of} (what used to be
+ * {@code createSimplifiedEntity}) and {@link EventProgressWebSocketHandler#encode} (what used to be
+ * {@code createMessageJson}). Lives in the handler's package because both are package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameEncodingBenchmark {
+
+    private final String eventId = UUID.randomUUID().toString();
+    private EventProgressWebSocketHandler handler;
+    private Task task;
+    private Attendee attendee;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        handler = new EventProgressWebSocketHandler(new WebSocketProperties(), Runnable::run,
+                new ThreadPoolTaskScheduler(), new SimpleMeterRegistry());
+
+        task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Confirm catering headcount");
+        task.setDescription("Send the final numbers to the venue before Friday");
+        task.setDeadline(LocalDate.now().plusDays(3));
+
+        attendee = new Attendee();
+        attendee.setId(UUID.randomUUID());
+        attendee.setName("Priya Raman");
+        attendee.setEmail("priya.raman@example.com");
+    }
+
+    @Benchmark
+    public Object taskPayload() {
+        return FramePayloads.of(task);
+    }
+
+    @Benchmark
+    public Object attendeePayload() {
+        return FramePayloads.of(attendee);
+    }
+
+    @Benchmark
+    public TextMessage encodeTaskUpdate() {
+        return handler.encode(message("TASK_UPDATE", task));
+    }
+
+    @Benchmark
+    public TextMessage encodeAttendeeUpdate() {
+        return handler.encode(message("ATTENDEE_UPDATE", attendee));
+    }
+
+    // encode replaces "data" with its payload, so every invocation needs a fresh map
+    private Map<String, Object> message(String type, Object data) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", type);
+        message.put("eventId", eventId);
+        message.put("data", data);
+        message.put("seq", 42L);
+        return message;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.demo.config;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One JSON line per request on the {@code access} logger: method, route template, status,
+ * duration and a keyed hash of the principal, never the email itself. Requests are sampled at
+ * {@code access-log.sample-rate}; server errors and slow requests are always logged.
+ * logback-spring.xml routes the logger through a non-blocking async appender.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    // Set by JwtAuthenticationFilter once the request is authenticated
+    public static final String PRINCIPAL_ATTRIBUTE = AccessLogFilter.class.getName() + ".principal";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("access");
+
+    @Value("${access-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${access-log.sample-rate:0.1}")
+    private double sampleRate;
+
+    @Value("${access-log.slow-threshold-ms:1000}")
+    private long slowThresholdMs;
+
+    // Empty means a random key per process: hashes then correlate requests within one instance only
+    @Value("${access-log.principal-hash-key:}")
+    private String principalHashKey;
+
+    private SecretKeySpec hashKey;
+    // email -> hash; principals repeat, so the HMAC runs once per user rather than per request
+    private Cache<String, String> principalHashes;
+
+    @PostConstruct
+    void init() {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalStateException("access-log.sample-rate must be between 0 and 1, was " + sampleRate);
+        }
+        byte[] key = new byte[32];
+        if (principalHashKey.isEmpty()) {
+            new SecureRandom().nextBytes(key);
+        } else {
+            key = principalHashKey.getBytes(StandardCharsets.UTF_8);
+        }
+        hashKey = new SecretKeySpec(key, "HmacSHA256");
+        principalHashes = Caffeine.newBuilder().maximumSize(10_000).build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !accessLog.isInfoEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streaming responses finish after this thread returns; log when the exchange completes
+                request.getAsyncContext().addListener(new CompletionListener(request, response, start));
+            } else {
+                log(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(), start);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, int status, long startNanos) {
+        long durationNanos = System.nanoTime() - startNanos;
+        boolean alwaysLogged = status >= 500 || durationNanos >= slowThresholdMs * 1_000_000;
+        if (!alwaysLogged && !sampled()) {
+            return;
+        }
+
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object principal = request.getAttribute(PRINCIPAL_ATTRIBUTE);
+        StringBuilder line = new StringBuilder(192)
+                .append("{\"ts\":\"").append(Instant.now())
+                .append("\",\"method\":\"").append(request.getMethod());
+        if (route != null) {
+            appendString(line.append("\",\"route\":\""), route.toString());
+        } else {
+            // No handler matched (404, or rejected before dispatch): the raw path is all there is
+            appendString(line.append("\",\"path\":\""), request.getRequestURI());
+        }
+        line.append("\",\"status\":").append(status)
+                .append(",\"durationMs\":").append((durationNanos / 1_000) / 1_000.0)
+                .append(",\"principal\":");
+        if (principal != null) {
+            line.append('"').append(hashPrincipal(principal.toString())).append('"');
+        } else {
+            line.append("null");
+        }
+        line.append(",\"sampleRate\":").append(alwaysLogged ? 1.0 : sampleRate).append('}');
+        accessLog.info(line.toString());
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private String hashPrincipal(String principal) {
+        return principalHashes.get(principal, key -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(hashKey);
+                byte[] digest = mac.doFinal(key.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest, 0, 8);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+    }
+
+    private static void appendString(StringBuilder line, String value) {
+        JsonStringEncoder.getInstance().quoteAsString(value, line);
+    }
+
+    private final class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long startNanos;
+
+        CompletionListener(HttpServletRequest request, HttpServletResponse response, long startNanos) {
+            this.request = request;
+            this.response = response;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            log(request, response.getStatus(), startNanos);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
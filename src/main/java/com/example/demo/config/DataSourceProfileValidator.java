@@ -0,0 +1,103 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks the selected datasource profile before the pool opens its first connection and sizes
+ * the pool for the {@code direct} profile. A mismatch fails startup instead of surfacing later
+ * as "prepared statement does not exist" errors behind a transaction-mode pooler.
+ */
+@Component
+public class DataSourceProfileValidator implements BeanPostProcessor, EnvironmentAware {
+
+    static final String POOLER_SAFE = "pooler-safe";
+    static final String DIRECT = "direct";
+
+    // Supabase's transaction-mode pooler listens on 6543
+    private static final String TRANSACTION_POOLER_PORT = ":6543/";
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceProfileValidator.class);
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof HikariDataSource dataSource) {
+            String profile = resolveProfile();
+            if (DIRECT.equals(profile)) {
+                configureDirect(dataSource);
+            } else {
+                validatePoolerSafe(dataSource);
+            }
+            log.info("Datasource profile '{}': pool size {}, prepareThreshold {}", profile,
+                    dataSource.getMaximumPoolSize(), driverProperty(dataSource, "prepareThreshold"));
+        }
+        return bean;
+    }
+
+    private String resolveProfile() {
+        List<String> selected = Arrays.stream(environment.getActiveProfiles())
+                .filter(p -> POOLER_SAFE.equals(p) || DIRECT.equals(p))
+                .distinct()
+                .toList();
+        if (selected.size() != 1) {
+            throw new IllegalStateException("Exactly one datasource profile must be active ("
+                    + POOLER_SAFE + " or " + DIRECT + "), found " + selected
+                    + "; set DATASOURCE_PROFILE");
+        }
+        String profile = selected.get(0);
+        String loaded = environment.getProperty("database-profile.name");
+        if (!profile.equals(loaded)) {
+            throw new IllegalStateException("Datasource profile '" + profile
+                    + "' is active but application-" + profile + ".properties was not loaded");
+        }
+        return profile;
+    }
+
+    private void validatePoolerSafe(HikariDataSource dataSource) {
+        if (isPostgres(dataSource) && !"0".equals(driverProperty(dataSource, "prepareThreshold"))) {
+            throw new IllegalStateException("The " + POOLER_SAFE
+                    + " profile requires prepareThreshold=0: server-side prepared statements"
+                    + " break behind a transaction-mode pooler");
+        }
+    }
+
+    private void configureDirect(HikariDataSource dataSource) {
+        String url = dataSource.getJdbcUrl();
+        if (isPostgres(dataSource) && (url.contains(TRANSACTION_POOLER_PORT) || url.contains("pgbouncer=true"))) {
+            throw new IllegalStateException("The " + DIRECT + " profile uses server-side prepared statements"
+                    + " and cannot run through a transaction-mode pooler (" + url
+                    + "); use " + POOLER_SAFE + " or the direct/session connection string");
+        }
+        int poolSize = environment.getProperty("database-profile.pool-size", Integer.class, 0);
+        if (poolSize <= 0) {
+            poolSize = Runtime.getRuntime().availableProcessors() * 2 + 1;
+        }
+        // Fixed-size pool: connections are opened up front rather than on the first burst
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(poolSize);
+    }
+
+    private static boolean isPostgres(HikariDataSource dataSource) {
+        return dataSource.getJdbcUrl() != null && dataSource.getJdbcUrl().startsWith("jdbc:postgresql:");
+    }
+
+    private static String driverProperty(HikariDataSource dataSource, String name) {
+        return dataSource.getDataSourceProperties().getProperty(name);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class ExecutorConfig {
+
+    // Drains per-session WebSocket queues so broadcasts never block request threads.
+    // With virtual threads enabled each session's drainer runs on its own virtual thread
+    @Bean
+    public AsyncTaskExecutor webSocketSendExecutor(WebSocketProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ws-send-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        int threads = properties.getSend().getSenderThreads() > 0
+                ? properties.getSend().getSenderThreads()
+                : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("ws-send-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    // Runs maintenance jobs one at a time, off the request threads
+    @Bean
+    public ThreadPoolTaskExecutor maintenanceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("maintenance-");
+        return executor;
+    }
+
+    // Fires the end of each task update coalescing window
+    @Bean
+    public ThreadPoolTaskScheduler webSocketBatchScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-batch-");
+        return scheduler;
+    }
+
+    // Advances the deadline reminder wheel and sends the reminders it fires
+    @Bean
+    public ThreadPoolTaskScheduler deadlineReminderTicker() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("deadline-reminders-");
+        return scheduler;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Page-size limits for keyset-paginated listings, bound from {@code pagination.*}.
+ */
+@Component
+@ConfigurationProperties(prefix = "pagination")
+public class PaginationProperties {
+
+    private int defaultLimit = 200;
+    private int maxLimit = 1000;
+    // Opt-in for clients written before pagination: a first request without a limit gets maxLimit rows,
+    // as close to the old full listing as the cap allows, instead of defaultLimit
+    private boolean maxLimitWhenAbsent = false;
+
+    // Applies the default (or maxLimit when opted in) to a missing limit and clamps to [1, maxLimit]
+    public int resolveLimit(Integer requested, boolean hasCursor) {
+        if (requested == null) {
+            return maxLimitWhenAbsent && !hasCursor ? maxLimit : defaultLimit;
+        }
+        return Math.max(1, Math.min(requested, maxLimit));
+    }
+
+    public int getDefaultLimit() { return defaultLimit; }
+    public void setDefaultLimit(int defaultLimit) { this.defaultLimit = defaultLimit; }
+    public int getMaxLimit() { return maxLimit; }
+    public void setMaxLimit(int maxLimit) { this.maxLimit = maxLimit; }
+    public boolean isMaxLimitWhenAbsent() { return maxLimitWhenAbsent; }
+    public void setMaxLimitWhenAbsent(boolean maxLimitWhenAbsent) { this.maxLimitWhenAbsent = maxLimitWhenAbsent; }
+}
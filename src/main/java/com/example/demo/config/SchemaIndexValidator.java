@@ -0,0 +1,125 @@
+package com.example.demo.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fails startup when an index or unique constraint declared on an entity's {@code @Table} is
+ * missing from the database. {@code ddl-auto=validate} checks tables and columns but not indexes,
+ * and those only exist if the Flyway migrations ran. Indexes are matched by their ordered columns
+ * rather than by name, so equivalent indexes created under other names still count.
+ */
+@Component
+public class SchemaIndexValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaIndexValidator.class);
+
+    @Value("${schema.verify-indexes:true}")
+    private boolean enabled;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @PostConstruct
+    void verify() throws SQLException {
+        if (!enabled) {
+            return;
+        }
+        MappingMetamodel mappingMetamodel = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel();
+        List<String> missing = new ArrayList<>();
+        int declared = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+                Table table = entity.getJavaType().getAnnotation(Table.class);
+                if (table == null || (table.indexes().length == 0 && table.uniqueConstraints().length == 0)) {
+                    continue;
+                }
+                String tableName = ((AbstractEntityPersister) mappingMetamodel
+                        .getEntityDescriptor(entity.getJavaType())).getTableName();
+                Map<List<String>, Boolean> existing = indexesOf(connection, metaData, tableName);
+                for (Index index : table.indexes()) {
+                    declared++;
+                    List<String> columns = Arrays.stream(index.columnList().split(","))
+                            .map(SchemaIndexValidator::normalize).toList();
+                    if (!existing.containsKey(columns)) {
+                        missing.add(index.name() + " on " + tableName + columns);
+                    }
+                }
+                for (UniqueConstraint unique : table.uniqueConstraints()) {
+                    declared++;
+                    List<String> columns = Arrays.stream(unique.columnNames())
+                            .map(SchemaIndexValidator::normalize).toList();
+                    if (!Boolean.TRUE.equals(existing.get(columns))) {
+                        missing.add(unique.name() + " (unique) on " + tableName + columns);
+                    }
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Database schema is missing indexes declared on the entities: "
+                    + missing + "; apply the migrations in db/migration");
+        }
+        log.info("Schema has all {} declared indexes and unique constraints", declared);
+    }
+
+    // Ordered column list of every index on the table -> whether it is unique
+    private static Map<List<String>, Boolean> indexesOf(Connection connection, DatabaseMetaData metaData,
+                                                         String tableName) throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers() ? tableName.toUpperCase(Locale.ROOT)
+                : metaData.storesLowerCaseIdentifiers() ? tableName.toLowerCase(Locale.ROOT) : tableName;
+        Map<String, TreeMap<Short, String>> columnsByIndex = new HashMap<>();
+        Map<String, Boolean> uniqueByIndex = new HashMap<>();
+        // Current schema only: Supabase also has an auth.users table
+        try (ResultSet rows = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table,
+                false, false)) {
+            while (rows.next()) {
+                String indexName = rows.getString("INDEX_NAME");
+                String column = rows.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(rows.getShort("ORDINAL_POSITION"), normalize(column));
+                uniqueByIndex.put(indexName, !rows.getBoolean("NON_UNIQUE"));
+            }
+        }
+        Map<List<String>, Boolean> indexes = new HashMap<>();
+        columnsByIndex.forEach((name, columns) ->
+                indexes.merge(List.copyOf(columns.values()), uniqueByIndex.get(name), Boolean::logicalOr));
+        return indexes;
+    }
+
+    private static String normalize(String column) {
+        return column.trim().replace("\"", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Opt-in virtual-thread mode ({@code spring.threads.virtual.enabled=true}). Spring Boot then runs
+ * Tomcat requests on virtual threads and {@link ExecutorConfig} does the same for WebSocket sends;
+ * this class refuses to start on a JVM without virtual threads and puts a
+ * {@link ConnectionLimitingDataSource} in front of the pool.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    public VirtualThreadConfig(Environment environment) {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        int feature = Runtime.version().feature();
+        // Boot silently falls back to platform threads before Java 21; an explicit opt-in should not
+        if (requested && feature < 21) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true requires Java 21 or later,"
+                    + " running on Java " + feature);
+        }
+        if (requested) {
+            log.info("Virtual threads enabled for request handling and WebSocket sends");
+        }
+    }
+
+    // Threads queued for, and permits left in, the limiter; absent when it is not installed
+    @Bean
+    public MeterBinder connectionLimiterMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> {
+            if (dataSource.getIfUnique() instanceof ConnectionLimitingDataSource limiter) {
+                Gauge.builder("jdbc.permits.waiting", limiter, ConnectionLimitingDataSource::getWaitingThreads)
+                        .description("Threads waiting for a JDBC connection permit").register(registry);
+                Gauge.builder("jdbc.permits.available", limiter, ConnectionLimitingDataSource::getAvailablePermits)
+                        .description("Unused JDBC connection permits").register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionLimiter(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource dataSource) || !Threading.VIRTUAL.isActive(environment)) {
+                    return bean;
+                }
+                // 0 admits as many threads as the pool has connections
+                int permits = environment.getProperty("virtual-threads.jdbc-permits", Integer.class, 0);
+                if (permits <= 0) {
+                    permits = dataSource.getMaximumPoolSize();
+                }
+                log.info("Limiting JDBC access to {} concurrent connections", permits);
+                return new ConnectionLimitingDataSource(dataSource, permits, dataSource.getConnectionTimeout());
+            }
+        };
+    }
+}
@@ -17,7 +17,7 @@ public class WebConfig {
                         .allowedOriginPatterns("http://localhost:*", "https://eventfront-iota.vercel.app")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "HEAD", "PATCH")
                         .allowedHeaders("*")
-                        .exposedHeaders("*")
+                        .exposedHeaders("*", "X-Next-Cursor")
                         .allowCredentials(true)
                         .maxAge(3600);
             }
@@ -0,0 +1,68 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tuning for outbound WebSocket traffic, bound from {@code websocket.*}.
+ */
+@Component
+@ConfigurationProperties(prefix = "websocket")
+public class WebSocketProperties {
+
+    private final Send send = new Send();
+    private final Batch batch = new Batch();
+    private final Replay replay = new Replay();
+
+    public Send getSend() { return send; }
+    public Batch getBatch() { return batch; }
+    public Replay getReplay() { return replay; }
+
+    public static class Send {
+
+        public enum OverflowPolicy {
+            /** Discard the oldest queued frames until the buffer fits again. */
+            DROP_OLDEST,
+            /** Close the session; the client reconnects and resynchronises. */
+            DISCONNECT
+        }
+
+        /** Maximum bytes queued per session before the overflow policy applies. */
+        private int bufferSizeLimit = 512 * 1024;
+
+        /** A single send blocked longer than this marks the session as a slow consumer. */
+        private long sendTimeLimitMs = 10_000;
+
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+        /** Threads draining session queues. 0 means one per available processor. */
+        private int senderThreads = 0;
+
+        public int getBufferSizeLimit() { return bufferSizeLimit; }
+        public void setBufferSizeLimit(int bufferSizeLimit) { this.bufferSizeLimit = bufferSizeLimit; }
+        public long getSendTimeLimitMs() { return sendTimeLimitMs; }
+        public void setSendTimeLimitMs(long sendTimeLimitMs) { this.sendTimeLimitMs = sendTimeLimitMs; }
+        public OverflowPolicy getOverflowPolicy() { return overflowPolicy; }
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) { this.overflowPolicy = overflowPolicy; }
+        public int getSenderThreads() { return senderThreads; }
+        public void setSenderThreads(int senderThreads) { this.senderThreads = senderThreads; }
+    }
+
+    public static class Batch {
+
+        /** How long TASK_UPDATEs for one event are collected before a single frame is sent. 0 disables. */
+        private long windowMs = 30;
+
+        public long getWindowMs() { return windowMs; }
+        public void setWindowMs(long windowMs) { this.windowMs = windowMs; }
+    }
+
+    public static class Replay {
+
+        /** Number of recent sequenced frames kept for resuming clients. */
+        private int capacity = 10_000;
+
+        public int getCapacity() { return capacity; }
+        public void setCapacity(int capacity) { this.capacity = capacity; }
+    }
+}
@@ -1,13 +1,21 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.AttendeeImportResult;
+import com.example.demo.dto.AttendeeView;
 import com.example.demo.model.Attendee;
+import com.example.demo.service.AttendeeImportService;
 import com.example.demo.service.AttendeeService;
 import com.example.demo.websocket.EventProgressWebSocketHandler;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/events/{eventId}/attendees")
@@ -17,12 +25,19 @@ public class AttendeeController {
     @Autowired
     private AttendeeService attendeeService;
     
+    @Autowired
+    private AttendeeImportService attendeeImportService;
+
     @Autowired
     private EventProgressWebSocketHandler webSocketHandler;
 
+    // Keyset-paginated listing; the next page's cursor is returned in the X-Next-Cursor header
     @GetMapping
-    public List<Attendee> getAttendeesForEvent(@PathVariable String eventId) {
-        return attendeeService.getAttendeesForEvent(eventId);
+    public ResponseEntity<List<AttendeeView>> getAttendeesForEvent(
+            @PathVariable String eventId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return PageResponses.of(attendeeService.getAttendeesPage(eventId, after, limit));
     }
 
     @PostMapping
@@ -35,6 +50,34 @@ public class AttendeeController {
         return ResponseEntity.ok(createdAttendee);
     }
 
+    // Bulk import from a streamed text/csv (header: name,email) or JSON array body
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<AttendeeImportResult> importAttendees(@PathVariable String eventId,
+                                                                HttpServletRequest request) throws IOException {
+        UUID id;
+        try {
+            id = UUID.fromString(eventId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        AttendeeImportService.Format format = contentType.isCompatibleWith(MediaType.APPLICATION_JSON)
+                ? AttendeeImportService.Format.JSON
+                : AttendeeImportService.Format.CSV;
+
+        AttendeeImportResult result = attendeeImportService.importAttendees(id, format, request.getInputStream());
+        if (result == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (result.imported() > 0) {
+            webSocketHandler.broadcastAttendeeImport(id.toString(), result.imported(), result.duplicates(),
+                    result.invalid(), result.eventVersion());
+        }
+        return result.error() != null
+                ? ResponseEntity.status(HttpStatus.BAD_REQUEST).body(result)
+                : ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{attendeeId}")
     public ResponseEntity<Attendee> updateAttendee(
             @PathVariable String eventId,
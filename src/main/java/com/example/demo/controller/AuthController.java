@@ -2,7 +2,9 @@ package com.example.demo.controller;
 
 import com.example.demo.model.User;
 import com.example.demo.security.JwtUtil;
+import com.example.demo.security.UserPrincipal;
 import com.example.demo.service.UserService;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -37,18 +39,18 @@ public class AuthController {
             // TODO: Add proper Supabase JWT validation using Supabase's public key
             
             // Check if user exists in our database
-            Optional<User> existingUser = userService.findByEmail(email);
+            Optional<UserPrincipal> existingUser = userService.findPrincipalByEmail(email);
             
             if (existingUser.isPresent()) {
                 // User exists, return user data
-                User user = existingUser.get();
+                UserPrincipal user = existingUser.get();
                 return ResponseEntity.ok(Map.of(
                     "user", Map.of(
-                        "id", user.getId(),
-                        "email", user.getEmail(),
-                        "name", user.getName(),
-                        "role", user.getRole(),
-                        "picture", user.getPicture()
+                        "id", user.id(),
+                        "email", user.email(),
+                        "name", user.name(),
+                        "role", user.role(),
+                        "picture", user.picture()
                     )
                 ));
             } else {
@@ -74,7 +76,7 @@ public class AuthController {
             }
 
             // Check if user already exists
-            Optional<User> existingUser = userService.findByEmail(email);
+            Optional<UserPrincipal> existingUser = userService.findPrincipalByEmail(email);
             if (existingUser.isPresent()) {
                 return ResponseEntity.badRequest().body(Map.of("error", "User already exists"));
             }
@@ -108,14 +110,14 @@ public class AuthController {
     public ResponseEntity<?> getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
-        if (authentication != null && authentication.getPrincipal() instanceof User) {
-            User user = (User) authentication.getPrincipal();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal) {
+            UserPrincipal user = (UserPrincipal) authentication.getPrincipal();
             return ResponseEntity.ok(Map.of(
-                "id", user.getId(),
-                "email", user.getEmail(),
-                "name", user.getName(),
-                "role", user.getRole(),
-                "picture", user.getPicture()
+                "id", user.id(),
+                "email", user.email(),
+                "name", user.name(),
+                "role", user.role(),
+                "picture", user.picture()
             ));
         }
         
@@ -126,9 +128,9 @@ public class AuthController {
     public ResponseEntity<?> promoteToAdmin(@RequestBody Map<String, String> request) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
-        if (authentication != null && authentication.getPrincipal() instanceof User) {
-            User currentUser = (User) authentication.getPrincipal();
-            if (currentUser.getRole() == User.Role.ADMIN) {
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal) {
+            UserPrincipal currentUser = (UserPrincipal) authentication.getPrincipal();
+            if (currentUser.role() == User.Role.ADMIN) {
                 String email = request.get("email");
                 try {
                     User promotedUser = userService.promoteToAdmin(email);
@@ -146,17 +148,18 @@ public class AuthController {
     public ResponseEntity<?> updateProfile(@RequestBody Map<String, String> profileRequest) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication == null || !authentication.isAuthenticated()) {
+            if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal)) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "User not authenticated"));
             }
 
-            String email = authentication.getName();
+            String email = ((UserPrincipal) authentication.getPrincipal()).email();
             String name = profileRequest.get("name");
 
             if (name == null || name.trim().isEmpty()) {
                 return ResponseEntity.badRequest().body(Map.of("error", "Name is required"));
             }
 
+            // The principal is a cached snapshot; change the entity and let save evict it
             Optional<User> userOptional = userService.findByEmail(email);
             if (userOptional.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "User not found"));
@@ -183,6 +186,27 @@ public class AuthController {
         }
     }
 
+    @GetMapping("/principal-cache/stats")
+    public ResponseEntity<?> getPrincipalCacheStats() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal) {
+            UserPrincipal currentUser = (UserPrincipal) authentication.getPrincipal();
+            if (currentUser.role() == User.Role.ADMIN) {
+                CacheStats stats = userService.getPrincipalCacheStats();
+                return ResponseEntity.ok(Map.of(
+                    "hits", stats.hitCount(),
+                    "misses", stats.missCount(),
+                    "hitRate", stats.hitRate(),
+                    "evictions", stats.evictionCount(),
+                    "size", userService.getPrincipalCacheSize()
+                ));
+            }
+        }
+        
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("error", "Only admins can view cache statistics"));
+    }
+
     @PostMapping("/logout")
     public ResponseEntity<?> logout() {
         SecurityContextHolder.clearContext();
@@ -1,18 +1,26 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.EventChanges;
+import com.example.demo.dto.EventFilter;
+import com.example.demo.dto.EventSummary;
 import com.example.demo.model.Event;
+import com.example.demo.service.EventProgressTracker;
 import com.example.demo.service.EventService;
+import com.example.demo.service.MaintenanceJob;
+import com.example.demo.service.MaintenanceService;
 import com.example.demo.websocket.EventProgressWebSocketHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/events")
@@ -22,12 +30,29 @@ public class EventController {
     @Autowired
     private EventService eventService;
     
+    @Autowired
+    private MaintenanceService maintenanceService;
+
+    @Autowired
+    private EventProgressTracker progressTracker;
+
     @Autowired
     private EventProgressWebSocketHandler webSocketHandler;
 
+    // Keyset-paginated listing; the next page's cursor is returned in the X-Next-Cursor header
     @GetMapping
-    public List<Event> getAllEvents() {
-        return eventService.getAllEvents();
+    public ResponseEntity<List<Event>> getAllEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            UUID afterId = after != null ? UUID.fromString(after) : null;
+            CursorPage<Event> page = eventService.getEventsPage(new EventFilter(from, to), afterId, limit);
+            return PageResponses.of(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{id}")
@@ -41,6 +66,30 @@ public class EventController {
         }
     }
 
+    // Task completion, overdue and attendee counts from in-memory counters
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<EventSummary> getEventSummary(@PathVariable String id) {
+        try {
+            EventSummary summary = progressTracker.getSummary(UUID.fromString(id));
+            return summary != null ? ResponseEntity.ok(summary) : ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Delta sync: tasks, attendees and deletions changed after the given event version
+    @GetMapping("/{id}/changes")
+    public ResponseEntity<EventChanges> getEventChanges(@PathVariable String id,
+                                                        @RequestParam(defaultValue = "0") long since) {
+        try {
+            UUID eventId = UUID.fromString(id);
+            EventChanges changes = eventService.getChangesSince(eventId, since);
+            return changes != null ? ResponseEntity.ok(changes) : ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping
     public ResponseEntity<Event> createEvent(@RequestBody Event event) {
         Event createdEvent = eventService.createEvent(event);
@@ -109,10 +158,16 @@ public class EventController {
         }
     }
 
+    // Second-level cache effectiveness for Event reads; reset=true starts a new measurement window
+    @GetMapping("/test/cache/stats")
+    public Map<String, Object> getCacheStats(@RequestParam(defaultValue = "false") boolean reset) {
+        return eventService.getCacheStatistics(reset);
+    }
+
+    // Same counters as the websocket.* meters on /actuator/prometheus, as one JSON document
     @GetMapping("/test/websocket/status")
-    public ResponseEntity<String> getWebSocketStatus() {
-        int activeConnections = webSocketHandler.getActiveConnectionCount();
-        return ResponseEntity.ok("Active WebSocket connections: " + activeConnections);
+    public ResponseEntity<Map<String, Object>> getWebSocketStatus() {
+        return ResponseEntity.ok(webSocketHandler.getStatus());
     }
 
     @PostMapping("/test/websocket/broadcast")
@@ -144,28 +199,9 @@ public class EventController {
     }
 
     // Utility endpoint to clean up duplicate events (for demo purposes)
+    // Runs in the background; poll /api/events/maintenance/jobs/{jobId} for the result
     @DeleteMapping("/cleanup-duplicates")
-    public ResponseEntity<String> cleanupDuplicateEvents() {
-        try {
-            List<Event> allEvents = eventService.getAllEvents();
-            Map<String, List<Event>> eventsByNameAndDate = allEvents.stream()
-                .collect(Collectors.groupingBy(event -> event.getName() + "_" + event.getDate()));
-            
-            int deletedCount = 0;
-            for (Map.Entry<String, List<Event>> entry : eventsByNameAndDate.entrySet()) {
-                List<Event> duplicates = entry.getValue();
-                if (duplicates.size() > 1) {
-                    // Keep the first one, delete the rest
-                    for (int i = 1; i < duplicates.size(); i++) {
-                        eventService.deleteEvent(duplicates.get(i).getId());
-                        deletedCount++;
-                    }
-                }
-            }
-            
-            return ResponseEntity.ok("Cleaned up " + deletedCount + " duplicate events");
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().body("Failed to cleanup duplicates: " + e.getMessage());
-        }
+    public ResponseEntity<MaintenanceJob> cleanupDuplicateEvents() {
+        return ResponseEntity.accepted().body(maintenanceService.submitCleanupDuplicateEvents());
     }
 }
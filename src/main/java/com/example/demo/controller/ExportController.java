@@ -0,0 +1,71 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.EventService;
+import com.example.demo.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/export")
+@CrossOrigin(origins = "http://localhost:5173")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private EventService eventService;
+
+    // GET /api/events/{eventId}/export/attendees?format=ndjson|csv
+    @GetMapping("/attendees")
+    public ResponseEntity<StreamingResponseBody> exportAttendees(@PathVariable String eventId,
+                                                                 @RequestParam(defaultValue = "ndjson") String format) {
+        return export(eventId, format, "attendees", exportService::exportAttendees);
+    }
+
+    // GET /api/events/{eventId}/export/tasks?format=ndjson|csv
+    @GetMapping("/tasks")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@PathVariable String eventId,
+                                                             @RequestParam(defaultValue = "ndjson") String format) {
+        return export(eventId, format, "tasks", exportService::exportTasks);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String eventId, String format, String name, Exporter exporter) {
+        UUID id;
+        ExportService.Format exportFormat;
+        try {
+            id = UUID.fromString(eventId);
+            exportFormat = ExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (eventService.getEventById(id) == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String filename = "event-" + id + "-" + name + (exportFormat == ExportService.Format.CSV ? ".csv" : ".ndjson");
+        // Rows are written on an async request thread while the database cursor is open
+        StreamingResponseBody body = out -> exporter.export(id, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat == ExportService.Format.CSV ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
+    @FunctionalInterface
+    private interface Exporter {
+        void export(UUID eventId, ExportService.Format format, OutputStream out) throws IOException;
+    }
+}
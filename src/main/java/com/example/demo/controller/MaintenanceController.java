@@ -0,0 +1,34 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.MaintenanceJob;
+import com.example.demo.service.MaintenanceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/events/maintenance")
+@CrossOrigin(origins = {"http://localhost:5173", "https://eventfront-iota.vercel.app"})
+public class MaintenanceController {
+
+    @Autowired
+    private MaintenanceService maintenanceService;
+
+    @PostMapping("/progress/rebuild")
+    public ResponseEntity<MaintenanceJob> rebuildProgress() {
+        return ResponseEntity.accepted().body(maintenanceService.submitRebuildProgress());
+    }
+
+    @GetMapping("/jobs")
+    public List<MaintenanceJob> getJobs() {
+        return maintenanceService.getJobs();
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<MaintenanceJob> getJob(@PathVariable String jobId) {
+        MaintenanceJob job = maintenanceService.getJob(jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+}
@@ -1,13 +1,24 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.BulkTaskRequest;
+import com.example.demo.dto.BulkTaskResult;
+import com.example.demo.dto.TaskFilter;
+import com.example.demo.dto.TaskView;
 import com.example.demo.model.Task;
+import com.example.demo.service.MaintenanceJob;
+import com.example.demo.service.MaintenanceService;
 import com.example.demo.service.TaskService;
 import com.example.demo.websocket.EventProgressWebSocketHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/events/{eventId}/tasks")
@@ -17,12 +28,24 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
     
+    @Autowired
+    private MaintenanceService maintenanceService;
+
     @Autowired
     private EventProgressWebSocketHandler webSocketHandler;
 
+    // Keyset-paginated listing; the next page's cursor is returned in the X-Next-Cursor header
     @GetMapping
-    public List<Task> getTasksForEvent(@PathVariable String eventId) {
-        return taskService.getTasksForEvent(eventId);
+    public ResponseEntity<List<TaskView>> getTasksForEvent(
+            @PathVariable String eventId,
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineTo,
+            @RequestParam(required = false) UUID assignedAttendeeId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        TaskFilter filter = new TaskFilter(completed, deadlineFrom, deadlineTo, assignedAttendeeId);
+        return PageResponses.of(taskService.getTasksPage(eventId, filter, after, limit));
     }
 
     @PostMapping
@@ -49,6 +72,32 @@ public class TaskController {
         return ResponseEntity.ok(updatedTask);
     }
 
+    // Complete, reschedule, reassign or delete many tasks in one transaction and one broadcast
+    @PatchMapping("/bulk")
+    public ResponseEntity<?> bulkUpdateTasks(@PathVariable String eventId, @RequestBody BulkTaskRequest request) {
+        BulkTaskResult result;
+        try {
+            result = taskService.bulkUpdate(UUID.fromString(eventId), request);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+
+        if (result.affected() > 0) {
+            Map<String, Object> changes = new HashMap<>();
+            switch (result.operation()) {
+                case SET_COMPLETED -> changes.put("completed", request.completed());
+                case SET_DEADLINE -> changes.put("deadline", request.deadline() != null ? request.deadline().toString() : null);
+                case REASSIGN -> changes.put("assignedAttendeeId", request.attendeeId() != null ? request.attendeeId().toString() : null);
+                case DELETE -> { }
+            }
+            webSocketHandler.broadcastTaskBulkUpdate(eventId, result.operation().name(), result.taskIds(),
+                    changes, result.eventVersion());
+        }
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/{taskId}")
     public ResponseEntity<Void> deleteTask(@PathVariable String eventId, @PathVariable String taskId) {
         taskService.deleteTask(eventId, taskId);
@@ -59,10 +108,15 @@ public class TaskController {
         return ResponseEntity.ok().build();
     }
     
+    // Runs in the background; poll /api/events/maintenance/jobs/{jobId} for the result
     @PostMapping("/fix-null-data")
-    public ResponseEntity<String> fixNullTaskData(@PathVariable String eventId) {
-        int fixedCount = taskService.fixNullTaskData(eventId);
-        return ResponseEntity.ok("Fixed " + fixedCount + " tasks with null data");
+    public ResponseEntity<MaintenanceJob> fixNullTaskData(@PathVariable String eventId) {
+        try {
+            MaintenanceJob job = maintenanceService.submitFixNullTaskData(UUID.fromString(eventId));
+            return ResponseEntity.accepted().body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     // In createTask and updateTask, deadline and assignedAttendee fields are now supported in the Task payload.
@@ -0,0 +1,9 @@
+package com.example.demo.dto;
+
+import java.util.UUID;
+
+/**
+ * Flat attendee row for exports; a projection, so streamed rows never enter the persistence context.
+ */
+public record AttendeeExportRow(UUID id, String name, String email) {
+}
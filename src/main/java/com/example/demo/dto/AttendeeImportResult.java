@@ -0,0 +1,15 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk attendee import. {@code errors} lists the first rejected rows (1-based);
+ * {@code error} is set when the body could not be read to the end, in which case only the
+ * rows counted in {@code imported} were committed.
+ */
+public record AttendeeImportResult(int imported, int duplicates, int invalid, List<RowError> errors,
+                                   long eventVersion, long durationMs, double rowsPerSecond, String error) {
+
+    public record RowError(long row, String reason) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demo.dto;
+
+import java.util.UUID;
+
+/**
+ * Attendee as returned by the listing endpoint, without the lazily loaded event.
+ */
+public record AttendeeView(UUID id, String name, String email, Long version, long eventVersion) {
+}
@@ -0,0 +1,16 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Body of {@code PATCH /api/events/{eventId}/tasks/bulk}. Only the field the operation needs is
+ * read: {@code completed} for SET_COMPLETED, {@code deadline} for SET_DEADLINE (null clears it),
+ * {@code attendeeId} for REASSIGN (null unassigns).
+ */
+public record BulkTaskRequest(List<UUID> taskIds, Operation operation, Boolean completed,
+                              LocalDate deadline, UUID attendeeId) {
+
+    public enum Operation { SET_COMPLETED, SET_DEADLINE, REASSIGN, DELETE }
+}
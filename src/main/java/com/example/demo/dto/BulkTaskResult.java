@@ -0,0 +1,11 @@
+package com.example.demo.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tasks a bulk operation changed; requested ids that do not belong to the event are skipped.
+ */
+public record BulkTaskResult(BulkTaskRequest.Operation operation, List<UUID> taskIds, int affected,
+                             long eventVersion) {
+}
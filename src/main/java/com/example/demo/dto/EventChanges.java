@@ -0,0 +1,23 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.Attendee;
+import com.example.demo.model.Event;
+import com.example.demo.model.Task;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Everything that changed in an event after {@code since}. Clients apply it and poll
+ * again with {@code version} as the next {@code since}.
+ */
+public record EventChanges(
+        UUID eventId,
+        long since,
+        long version,
+        Event event,
+        List<Task> tasks,
+        List<Attendee> attendees,
+        List<UUID> deletedTaskIds,
+        List<UUID> deletedAttendeeIds) {
+}
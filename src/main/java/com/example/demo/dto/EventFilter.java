@@ -0,0 +1,9 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Optional listing filters for events; null fields are ignored.
+ */
+public record EventFilter(LocalDate dateFrom, LocalDate dateTo) {
+}
@@ -0,0 +1,10 @@
+package com.example.demo.dto;
+
+import java.util.UUID;
+
+/**
+ * Progress of one event: task completion, overdue open tasks (deadline before today) and attendees.
+ */
+public record EventSummary(UUID eventId, long totalTasks, long completedTasks, long overdueTasks,
+                           long attendeeCount, double completionRate) {
+}
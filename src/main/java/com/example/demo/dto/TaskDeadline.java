@@ -0,0 +1,10 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Deadline of an open task, as loaded into the deadline reminder schedule.
+ */
+public record TaskDeadline(UUID taskId, UUID eventId, LocalDate deadline) {
+}
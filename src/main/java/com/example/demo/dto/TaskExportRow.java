@@ -0,0 +1,11 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Flat task row for exports; a projection, so streamed rows never enter the persistence context.
+ */
+public record TaskExportRow(UUID id, String title, String description, boolean completed,
+                            LocalDate deadline, UUID assignedAttendeeId) {
+}
@@ -0,0 +1,10 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Optional listing filters for an event's tasks; null fields are ignored.
+ */
+public record TaskFilter(Boolean completed, LocalDate deadlineFrom, LocalDate deadlineTo, UUID assignedAttendeeId) {
+}
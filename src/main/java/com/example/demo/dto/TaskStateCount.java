@@ -0,0 +1,11 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Number of an event's tasks sharing a completion state and deadline; the unit the progress
+ * counters are built from and adjusted by.
+ */
+public record TaskStateCount(UUID eventId, boolean completed, LocalDate deadline, long count) {
+}
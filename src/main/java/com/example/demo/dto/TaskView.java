@@ -0,0 +1,22 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Task as returned by the listing endpoint, read with its assignee in one query. The assignee is
+ * nested like on the entity so clients keep reading {@code assignedAttendee.name}.
+ */
+public record TaskView(UUID id, String title, String description, boolean completed, LocalDate deadline,
+                       Long version, long eventVersion, AttendeeRef assignedAttendee) {
+
+    public record AttendeeRef(UUID id, String name, String email) {
+    }
+
+    // Flat form for JPQL/criteria constructor expressions, which cannot build nested objects
+    public TaskView(UUID id, String title, String description, boolean completed, LocalDate deadline,
+                    Long version, long eventVersion, UUID attendeeId, String attendeeName, String attendeeEmail) {
+        this(id, title, description, completed, deadline, version, eventVersion,
+                attendeeId != null ? new AttendeeRef(attendeeId, attendeeName, attendeeEmail) : null);
+    }
+}
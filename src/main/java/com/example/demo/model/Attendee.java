@@ -2,17 +2,34 @@ package com.example.demo.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.Locale;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_attendee_event_id", columnList = "event_id, id"),
+        @Index(name = "idx_attendee_event_version", columnList = "event_id, event_version")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_attendee_event_email", columnNames = {"event_id", "email"}))
 public class Attendee {
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     private String name;
     private String email;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Event version at this row's last change, used by the delta sync feed
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long eventVersion;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id")
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
@@ -24,7 +41,16 @@ public class Attendee {
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
     public String getEmail() { return email; }
-    public void setEmail(String email) { this.email = email; }
+    // Stored normalized, so uk_attendee_event_email treats addresses differing only in case as the same
+    public void setEmail(String email) { this.email = normalizeEmail(email); }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    public long getEventVersion() { return eventVersion; }
+    public void setEventVersion(long eventVersion) { this.eventVersion = eventVersion; }
     public Event getEvent() { return event; }
     public void setEvent(Event event) { this.event = event; }
+
+    public static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
 }
@@ -1,13 +1,20 @@
 package com.example.demo.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = @Index(name = "idx_event_date", columnList = "date"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     private UUID id;
 
     private String name;
@@ -15,6 +22,17 @@ public class Event {
     private String description;
     private String location;
 
+    // Optimistic lock for edits of the event itself
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Change clock value at this event's last edit, used by the delta sync feed (see EventClock)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long eventVersion;
+
     // Getters and setters
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
@@ -26,4 +44,8 @@ public class Event {
     public void setDescription(String description) { this.description = description; }
     public String getLocation() { return location; }
     public void setLocation(String location) { this.location = location; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    public long getEventVersion() { return eventVersion; }
+    public void setEventVersion(long eventVersion) { this.eventVersion = eventVersion; }
 }
@@ -0,0 +1,32 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+/**
+ * Change clock of one event: every change to the event, its tasks or its attendees ticks it and is
+ * stamped with the new value for the delta sync feed. Kept apart from {@link Event} so those changes
+ * neither update nor evict the cached event row.
+ */
+@Entity
+@Table(name = "event_clock")
+public class EventClock {
+    @Id
+    @Column(name = "event_id")
+    private UUID eventId;
+
+    @Column(nullable = false)
+    private long version;
+
+    protected EventClock() {
+    }
+
+    public EventClock(UUID eventId, long version) {
+        this.eventId = eventId;
+        this.version = version;
+    }
+
+    public UUID getEventId() { return eventId; }
+    public long getVersion() { return version; }
+}
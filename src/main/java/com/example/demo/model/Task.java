@@ -2,13 +2,23 @@ package com.example.demo.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_task_event_id", columnList = "event_id, id"),
+        @Index(name = "idx_task_event_completed", columnList = "event_id, completed, id"),
+        @Index(name = "idx_task_event_deadline", columnList = "event_id, deadline"),
+        @Index(name = "idx_task_event_version", columnList = "event_id, event_version"),
+        @Index(name = "idx_task_deadline", columnList = "deadline"),
+        @Index(name = "idx_task_assigned_attendee", columnList = "assigned_attendee_id")
+})
 public class Task {
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     private String title;
@@ -16,6 +26,16 @@ public class Task {
     private boolean completed;
     private LocalDate deadline;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Event version at this row's last change, used by the delta sync feed
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long eventVersion;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id")
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
@@ -37,6 +57,10 @@ public class Task {
     public void setCompleted(boolean completed) { this.completed = completed; }
     public LocalDate getDeadline() { return deadline; }
     public void setDeadline(LocalDate deadline) { this.deadline = deadline; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    public long getEventVersion() { return eventVersion; }
+    public void setEventVersion(long eventVersion) { this.eventVersion = eventVersion; }
     public Event getEvent() { return event; }
     public void setEvent(Event event) { this.event = event; }
     public Attendee getAssignedAttendee() { return assignedAttendee; }
@@ -0,0 +1,63 @@
+package com.example.demo.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Record of a deleted task or attendee, so delta sync clients can drop it locally.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_tombstone_event_version", columnList = "event_id, event_version"))
+public class Tombstone {
+    @Id
+    @UuidV7
+    private UUID id;
+
+    // Plain column rather than a relation: tombstones must not block deleting the event
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private UUID entityId;
+
+    @Column(nullable = false)
+    private long eventVersion;
+
+    private Instant deletedAt;
+
+    public enum EntityType {
+        TASK, ATTENDEE
+    }
+
+    public Tombstone() {}
+
+    public Tombstone(UUID eventId, EntityType entityType, UUID entityId, long eventVersion) {
+        this.eventId = eventId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.eventVersion = eventVersion;
+        this.deletedAt = Instant.now();
+    }
+
+    // Getters and setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+    public UUID getEventId() { return eventId; }
+    public void setEventId(UUID eventId) { this.eventId = eventId; }
+    public EntityType getEntityType() { return entityType; }
+    public void setEntityType(EntityType entityType) { this.entityType = entityType; }
+    public UUID getEntityId() { return entityId; }
+    public void setEntityId(UUID entityId) { this.entityId = entityId; }
+    public long getEventVersion() { return eventVersion; }
+    public void setEventVersion(long eventVersion) { this.eventVersion = eventVersion; }
+    public Instant getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(Instant deletedAt) { this.deletedAt = deletedAt; }
+}
@@ -1,13 +1,15 @@
 package com.example.demo.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_supabase_user_id", columnList = "supabase_user_id"))
 public class User {
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     @Column(unique = true, nullable = false)
@@ -20,6 +22,8 @@ public class User {
     private String supabaseUserId;
 
     @Enumerated(EnumType.STRING)
+    // Plain varchar as in the migrations, rather than a native enum type on dialects that have one
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private Role role = Role.USER;
 
     public enum Role {
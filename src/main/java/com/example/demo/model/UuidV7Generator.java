@@ -0,0 +1,65 @@
+package com.example.demo.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * Time-ordered UUIDv7 ids (RFC 9562): a 48-bit Unix millisecond timestamp, a 12-bit counter and
+ * 62 random bits. New rows land at the right-hand edge of the primary key and event_id indexes
+ * instead of on a random page, and ids are generated in process without a database round trip.
+ * <p>
+ * Ids are strictly increasing within this process, also across threads: timestamp and counter
+ * share one {@link AtomicLong} advanced by compare-and-set. More than 4096 ids in one millisecond,
+ * or a clock that steps back, borrow from the following millisecond rather than repeating a value.
+ * The random bits come from {@link SecureRandom}, as for {@link UUID#randomUUID()}, so ids handed to
+ * clients cannot be predicted from earlier ones.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    // (unix millis << 12) | counter of the last id handed out
+    private static final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    // One generator per thread: a shared SecureRandom synchronizes every call
+    private static final ThreadLocal<SecureRandom> random = ThreadLocal.withInitial(SecureRandom::new);
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+
+    public static UUID next() {
+        long fresh = System.currentTimeMillis() << COUNTER_BITS;
+        long previous;
+        long current;
+        do {
+            previous = lastTimestampAndCounter.get();
+            current = fresh > previous ? fresh : previous + 1;
+        } while (!lastTimestampAndCounter.compareAndSet(previous, current));
+
+        long timestamp = current >>> COUNTER_BITS;
+        long counter = current & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = (timestamp << 16) | VERSION_7 | counter;
+        // Ordering comes from the high bits; the rest keeps ids unguessable and cross-instance collisions negligible
+        long leastSigBits = (random.get().nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
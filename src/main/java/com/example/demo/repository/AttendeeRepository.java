@@ -1,10 +1,40 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.AttendeeExportRow;
 import com.example.demo.model.Attendee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface AttendeeRepository extends JpaRepository<Attendee, UUID> {
+public interface AttendeeRepository extends JpaRepository<Attendee, UUID>, AttendeeRepositoryCustom {
     List<Attendee> findByEventId(UUID eventId);
+    List<Attendee> findByEventIdAndEventVersionGreaterThan(UUID eventId, long eventVersion);
+
+    @Query("select a.email from Attendee a where a.event.id = :eventId")
+    List<String> findEmailsByEventId(@Param("eventId") UUID eventId);
+
+    // Attendee count per event, including events without attendees
+    @Query("select e.id, (select count(a) from Attendee a where a.event = e) from Event e")
+    List<Object[]> countPerEvent();
+
+    long countByEventId(UUID eventId);
+
+    @Modifying
+    @Query("delete from Attendee a where a.event.id in :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<UUID> eventIds);
+
+    // Streams projection rows for export, unordered so the database can stream without a sort;
+    // must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.demo.dto.AttendeeExportRow(a.id, a.name, a.email) " +
+           "from Attendee a where a.event.id = :eventId")
+    Stream<AttendeeExportRow> streamExportRows(@Param("eventId") UUID eventId);
 }
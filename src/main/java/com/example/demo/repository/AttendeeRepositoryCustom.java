@@ -0,0 +1,10 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AttendeeView;
+import java.util.List;
+import java.util.UUID;
+
+public interface AttendeeRepositoryCustom {
+    // An event's attendees ordered by id, starting after the given id (keyset pagination)
+    List<AttendeeView> findPage(UUID eventId, UUID after, int limit);
+}
@@ -0,0 +1,42 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.AttendeeView;
+import com.example.demo.model.Attendee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class AttendeeRepositoryImpl implements AttendeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AttendeeView> findPage(UUID eventId, UUID after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AttendeeView> query = cb.createQuery(AttendeeView.class);
+        Root<Attendee> attendee = query.from(Attendee.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(attendee.get("event").get("id"), eventId));
+        if (after != null) {
+            predicates.add(cb.greaterThan(attendee.<UUID>get("id"), after));
+        }
+
+        query.select(cb.construct(AttendeeView.class,
+                        attendee.get("id"), attendee.get("name"), attendee.get("email"),
+                        attendee.get("version"), attendee.get("eventVersion")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(attendee.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
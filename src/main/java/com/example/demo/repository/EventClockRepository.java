@@ -0,0 +1,33 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.EventClock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface EventClockRepository extends JpaRepository<EventClock, UUID> {
+
+    // Row-locks the clock until commit; 0 if the event has no clock yet
+    @Modifying(flushAutomatically = true)
+    @Query("update EventClock c set c.version = c.version + 1 where c.eventId = :eventId")
+    int increment(@Param("eventId") UUID eventId);
+
+    @Query("select c.version from EventClock c where c.eventId = :eventId")
+    Optional<Long> findVersion(@Param("eventId") UUID eventId);
+
+    // Blocks concurrent changes to these events, which tick their clocks first, until the caller commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from EventClock c where c.eventId in :eventIds")
+    List<EventClock> lockByEventIdIn(@Param("eventIds") Collection<UUID> eventIds);
+
+    @Modifying
+    @Query("delete from EventClock c where c.eventId in :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<UUID> eventIds);
+}
@@ -1,8 +1,33 @@
 package com.example.demo.repository;
 
 import com.example.demo.model.Event;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface EventRepository extends JpaRepository<Event, UUID> {
+public interface EventRepository extends JpaRepository<Event, UUID>, EventRepositoryCustom {
+
+    // Events with the same name and date as an event with a lower id, in id order after the given id
+    @Query("select e.id from Event e where e.id > :after and exists (" +
+           "select o.id from Event o where o.id < e.id " +
+           "and (o.name = e.name or (o.name is null and e.name is null)) " +
+           "and (o.date = e.date or (o.date is null and e.date is null))) " +
+           "order by e.id")
+    List<UUID> findDuplicateIdsAfter(@Param("after") UUID after, Limit limit);
+
+    // Row-locks the events until the caller commits, without changing them
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Event e where e.id in :ids")
+    List<Event> lockByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Event e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,11 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.EventFilter;
+import com.example.demo.model.Event;
+import java.util.List;
+import java.util.UUID;
+
+public interface EventRepositoryCustom {
+    // Events ordered by id, starting after the given id (keyset pagination)
+    List<Event> findPage(EventFilter filter, UUID after, int limit);
+}
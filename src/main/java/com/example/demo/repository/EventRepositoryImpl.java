@@ -0,0 +1,50 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.EventFilter;
+import com.example.demo.model.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class EventRepositoryImpl implements EventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Event> findPage(EventFilter filter, UUID after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> event = query.from(Event.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.dateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.<LocalDate>get("date"), filter.dateFrom()));
+        }
+        if (filter.dateTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(event.<LocalDate>get("date"), filter.dateTo()));
+        }
+        if (after != null) {
+            predicates.add(cb.greaterThan(event.<UUID>get("id"), after));
+        }
+
+        query.select(event)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(event.get("id")));
+        // Result ids are cached per page and filter; any write to the event table invalidates them
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, "event-listing")
+                .getResultList();
+    }
+}
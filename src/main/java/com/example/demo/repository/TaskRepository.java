@@ -1,10 +1,109 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.TaskDeadline;
+import com.example.demo.dto.TaskExportRow;
+import com.example.demo.dto.TaskStateCount;
+import com.example.demo.model.Attendee;
 import com.example.demo.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
     List<Task> findByEventId(UUID eventId);
+    List<Task> findByEventIdAndEventVersionGreaterThan(UUID eventId, long eventVersion);
+
+    // Progress counter inputs: task counts per event, completion state and deadline
+    @Query("select new com.example.demo.dto.TaskStateCount(t.event.id, t.completed, t.deadline, count(t)) " +
+           "from Task t group by t.event.id, t.completed, t.deadline")
+    List<TaskStateCount> countStates();
+
+    @Query("select new com.example.demo.dto.TaskStateCount(t.event.id, t.completed, t.deadline, count(t)) " +
+           "from Task t where t.event.id = :eventId group by t.event.id, t.completed, t.deadline")
+    List<TaskStateCount> countStatesByEventId(@Param("eventId") UUID eventId);
+
+    @Query("select new com.example.demo.dto.TaskStateCount(t.event.id, t.completed, t.deadline, count(t)) " +
+           "from Task t where t.id in :ids group by t.event.id, t.completed, t.deadline")
+    List<TaskStateCount> countStatesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select t.id from Task t where t.event.id = :eventId and t.id in :ids")
+    List<UUID> findIdsByEventIdAndIdIn(@Param("eventId") UUID eventId, @Param("ids") Collection<UUID> ids);
+
+    // Set-based bulk mutations: these bypass @Version, so each bumps version itself
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.completed = :completed, t.version = t.version + 1, t.eventVersion = :eventVersion " +
+           "where t.event.id = :eventId and t.id in :ids")
+    int bulkSetCompleted(@Param("eventId") UUID eventId, @Param("ids") Collection<UUID> ids,
+                         @Param("completed") boolean completed, @Param("eventVersion") long eventVersion);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.deadline = :deadline, t.version = t.version + 1, t.eventVersion = :eventVersion " +
+           "where t.event.id = :eventId and t.id in :ids")
+    int bulkSetDeadline(@Param("eventId") UUID eventId, @Param("ids") Collection<UUID> ids,
+                        @Param("deadline") LocalDate deadline, @Param("eventVersion") long eventVersion);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.assignedAttendee = :attendee, t.version = t.version + 1, t.eventVersion = :eventVersion " +
+           "where t.event.id = :eventId and t.id in :ids")
+    int bulkAssign(@Param("eventId") UUID eventId, @Param("ids") Collection<UUID> ids,
+                   @Param("attendee") Attendee attendee, @Param("eventVersion") long eventVersion);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.assignedAttendee = null, t.version = t.version + 1, t.eventVersion = :eventVersion " +
+           "where t.event.id = :eventId and t.id in :ids")
+    int bulkUnassign(@Param("eventId") UUID eventId, @Param("ids") Collection<UUID> ids,
+                     @Param("eventVersion") long eventVersion);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.event.id = :eventId and t.id in :ids")
+    int bulkDelete(@Param("eventId") UUID eventId, @Param("ids") Collection<UUID> ids);
+
+    // Fills blank titles and null descriptions of an event's tasks in one statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set " +
+           "t.title = case when t.title is null or trim(t.title) = '' then 'Untitled Task' else t.title end, " +
+           "t.description = coalesce(t.description, ''), " +
+           "t.version = t.version + 1, t.eventVersion = :eventVersion " +
+           "where t.event.id = :eventId and (t.title is null or trim(t.title) = '' or t.description is null)")
+    int fillNullTitlesAndDescriptions(@Param("eventId") UUID eventId, @Param("eventVersion") long eventVersion);
+
+    // Tasks in other events may be assigned to attendees of the given events
+    @Modifying
+    @Query("update Task t set t.assignedAttendee = null " +
+           "where t.assignedAttendee.id in (select a.id from Attendee a where a.event.id in :eventIds)")
+    int unassignAttendeesOfEvents(@Param("eventIds") Collection<UUID> eventIds);
+
+    @Modifying
+    @Query("delete from Task t where t.event.id in :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<UUID> eventIds);
+
+    // Streams projection rows for export, unordered so the database can stream without a sort;
+    // must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.demo.dto.TaskExportRow(t.id, t.title, t.description, t.completed, t.deadline, a.id) " +
+           "from Task t left join t.assignedAttendee a where t.event.id = :eventId")
+    Stream<TaskExportRow> streamExportRows(@Param("eventId") UUID eventId);
+
+    // Open tasks due in [from, to), for the deadline reminder schedule; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.demo.dto.TaskDeadline(t.id, t.event.id, t.deadline) from Task t " +
+           "where t.deadline >= :from and t.deadline < :to and t.completed = false")
+    Stream<TaskDeadline> streamOpenDeadlines(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select new com.example.demo.dto.TaskDeadline(t.id, t.event.id, t.deadline) from Task t " +
+           "where t.id in :ids and t.deadline is not null and t.completed = false")
+    List<TaskDeadline> findOpenDeadlinesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Which of the given tasks are still open and due on the given day
+    @Query("select t.id from Task t where t.id in :ids and t.deadline = :deadline and t.completed = false")
+    List<UUID> findOpenIdsByIdInAndDeadline(@Param("ids") Collection<UUID> ids, @Param("deadline") LocalDate deadline);
 }
@@ -0,0 +1,12 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.TaskFilter;
+import com.example.demo.dto.TaskView;
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskRepositoryCustom {
+    // An event's tasks ordered by id, starting after the given id (keyset pagination);
+    // one query, assignee included
+    List<TaskView> findPage(UUID eventId, TaskFilter filter, UUID after, int limit);
+}
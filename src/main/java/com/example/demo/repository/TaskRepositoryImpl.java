@@ -0,0 +1,61 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.TaskFilter;
+import com.example.demo.dto.TaskView;
+import com.example.demo.model.Attendee;
+import com.example.demo.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskView> findPage(UUID eventId, TaskFilter filter, UUID after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, Attendee> assignee = task.join("assignedAttendee", JoinType.LEFT);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(task.get("event").get("id"), eventId));
+        if (filter.completed() != null) {
+            predicates.add(cb.equal(task.get("completed"), filter.completed()));
+        }
+        if (filter.deadlineFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(task.<LocalDate>get("deadline"), filter.deadlineFrom()));
+        }
+        if (filter.deadlineTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(task.<LocalDate>get("deadline"), filter.deadlineTo()));
+        }
+        if (filter.assignedAttendeeId() != null) {
+            predicates.add(cb.equal(assignee.get("id"), filter.assignedAttendeeId()));
+        }
+        if (after != null) {
+            predicates.add(cb.greaterThan(task.<UUID>get("id"), after));
+        }
+
+        query.select(cb.construct(TaskView.class,
+                        task.get("id"), task.get("title"), task.get("description"), task.get("completed"),
+                        task.get("deadline"), task.get("version"), task.get("eventVersion"),
+                        assignee.get("id"), assignee.get("name"), assignee.get("email")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(task.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
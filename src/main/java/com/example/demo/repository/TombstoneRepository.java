@@ -0,0 +1,18 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, UUID> {
+    List<Tombstone> findByEventIdAndEventVersionGreaterThan(UUID eventId, long eventVersion);
+
+    @Modifying
+    @Query("delete from Tombstone t where t.eventId in :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<UUID> eventIds);
+}
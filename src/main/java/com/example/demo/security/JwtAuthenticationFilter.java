@@ -1,7 +1,8 @@
 package com.example.demo.security;
 
-import com.example.demo.model.User;
+import com.example.demo.config.AccessLogFilter;
 import com.example.demo.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -40,48 +41,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (requestURI.startsWith("/ws/") || 
             requestURI.startsWith("/api/auth/") ||
             "websocket".equalsIgnoreCase(request.getHeader("Upgrade"))) {
-            logger.info("Skipping JWT authentication for endpoint: {}", requestURI);
             filterChain.doFilter(request, response);
             return;
         }
 
+        // Per-request detail is debug-only and never includes the email; AccessLogFilter writes
+        // the one line per request, with a hashed principal
         final String authorizationHeader = request.getHeader("Authorization");
-        logger.info("Processing request: {} {}", request.getMethod(), request.getRequestURI());
-        logger.info("Authorization header present: {}", authorizationHeader != null);
-
         String email = null;
-        String jwt = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            logger.info("JWT token extracted, length: {}", jwt.length());
-            try {
-                email = jwtUtil.extractEmail(jwt);
-                logger.info("Email extracted from JWT: {}", email);
-            } catch (Exception e) {
-                logger.error("Error extracting email from JWT: {}", e.getMessage());
+            String jwt = authorizationHeader.substring(7);
+            // One verification covers signature and expiry; repeat tokens are served from the claims cache
+            Claims claims = jwtUtil.validateAndGetClaims(jwt);
+            if (claims != null) {
+                email = claims.getSubject();
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("JWT rejected for {} {}: invalid signature or expired",
+                        request.getMethod(), request.getRequestURI());
             }
         }
 
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            boolean isValidToken = jwtUtil.validateToken(jwt);
-            logger.info("Token validation result: {}", isValidToken);
-            
-            if (isValidToken) {
-                Optional<User> userOpt = userService.findByEmail(email);
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    logger.info("User found: {} with role: {}", user.getEmail(), user.getRole());
-                    SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.getRole().name());
-                    
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            user, null, Collections.singletonList(authority));
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    logger.info("Authentication set for user: {}", email);
-                } else {
-                    logger.warn("User not found in database for email: {}", email);
+            Optional<UserPrincipal> userOpt = userService.findPrincipalByEmail(email);
+            if (userOpt.isPresent()) {
+                UserPrincipal user = userOpt.get();
+                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + user.role().name());
+                
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        user, null, Collections.singletonList(authority));
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+                request.setAttribute(AccessLogFilter.PRINCIPAL_ATTRIBUTE, email);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Authenticated {} {} with role {}",
+                            request.getMethod(), request.getRequestURI(), user.role());
                 }
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("Valid JWT for {} {} but no matching user",
+                        request.getMethod(), request.getRequestURI());
             }
         }
 
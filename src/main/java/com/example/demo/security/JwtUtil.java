@@ -1,14 +1,27 @@
 package com.example.demo.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
@@ -17,9 +30,44 @@ public class JwtUtil {
     @Value("${supabase.jwt.secret}")
     private String jwtSecret;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${security.jwt.claims-cache.enabled:true}")
+    private boolean claimsCacheEnabled;
+
+    @Value("${security.jwt.claims-cache.maximum-size:10000}")
+    private long claimsCacheMaximumSize;
+
+    // Upper bound on how long verified claims are trusted without re-checking the signature
+    @Value("${security.jwt.claims-cache.max-ttl-seconds:300}")
+    private long claimsCacheMaxTtlSeconds;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    // SHA-256 of the token -> verified claims, kept until the token's exp (or the max TTL)
+    private Cache<String, Claims> claimsCache;
+    // Time spent parsing and checking signatures; cache hits skip it entirely
+    private Timer verifyTimer;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        // JwtParser is immutable and thread-safe, so one instance serves every request
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifyTimer = Timer.builder("jwt.verify")
+                .description("Parse and signature/expiry check of a bearer token")
+                .register(meterRegistry);
+        if (claimsCacheEnabled) {
+            claimsCache = Caffeine.newBuilder()
+                    .maximumSize(claimsCacheMaximumSize)
+                    .expireAfter(new ClaimsExpiry(TimeUnit.SECONDS.toNanos(claimsCacheMaxTtlSeconds)))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwt.claims");
+        }
     }
 
     public String extractEmail(String token) {
@@ -40,11 +88,41 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Verifies the token once and returns its claims, or null if the signature is invalid or the
+     * token has expired. Verified claims are cached, so a repeated bearer token skips the HMAC check.
+     */
+    public Claims validateAndGetClaims(String token) {
+        if (claimsCache == null) {
+            return verify(token);
+        }
+        String key = cacheKey(token);
+        Claims cached = claimsCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = verify(token);
+        if (claims != null) {
+            claimsCache.put(key, claims);
+        }
+        return claims;
+    }
+
+    private Claims verify(String token) {
+        return verifyTimer.record(() -> verifyUntimed(token));
+    }
+
+    private Claims verifyUntimed(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            Date expiration = claims.getExpiration();
+            return expiration == null || expiration.after(new Date()) ? claims : null;
+        } catch (Exception e) {
+            return null;
+        }
     }
 
     public Boolean isTokenExpired(String token) {
@@ -58,4 +136,43 @@ public class JwtUtil {
             return false;
         }
     }
+
+    // Hashing keeps raw bearer tokens out of the heap-resident cache
+    private static String cacheKey(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class ClaimsExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        ClaimsExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+            long untilExpiry = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
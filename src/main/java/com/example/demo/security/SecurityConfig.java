@@ -9,6 +9,8 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -29,13 +31,21 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers("/api/auth/**").permitAll()
+                // Maintenance jobs and statistics resets act on the whole server, so they are admin-only
+                // although the rest of /api/events is open
+                .requestMatchers("/api/events/maintenance/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.DELETE, "/api/events/cleanup-duplicates").hasRole("ADMIN")
+                .requestMatchers(cacheStatsReset()).hasRole("ADMIN")
                 .requestMatchers("/ws/**").permitAll()
                 .requestMatchers("/api/events/test/**").permitAll()
+                // Scraped by Prometheus; the remaining actuator endpoints need a token
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/events/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/events/**").permitAll()
                 .requestMatchers(HttpMethod.PUT, "/api/events/**").permitAll()
                 .requestMatchers(HttpMethod.DELETE, "/api/events/**").permitAll()
+                .requestMatchers(HttpMethod.PATCH, "/api/events/**").permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -43,13 +53,19 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Any reset value, since Spring also binds "on", "yes" and "1" to true
+    private static RequestMatcher cacheStatsReset() {
+        RequestMatcher stats = PathPatternRequestMatcher.withDefaults().matcher("/api/events/test/cache/stats");
+        return request -> stats.matches(request) && request.getParameter("reset") != null;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOriginPatterns(Arrays.asList("http://localhost:*", "https://eventfront-iota.vercel.app"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "HEAD", "PATCH"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
-        configuration.setExposedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("*", "X-Next-Cursor"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
         
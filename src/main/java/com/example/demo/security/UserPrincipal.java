@@ -0,0 +1,17 @@
+package com.example.demo.security;
+
+import com.example.demo.model.User;
+
+import java.util.UUID;
+
+/**
+ * The authenticated user as cached by {@code UserService} and held in the security context.
+ * Immutable, so one instance can be shared by concurrent requests; changes load the {@link User}
+ * entity instead.
+ */
+public record UserPrincipal(UUID id, String email, String name, String picture, User.Role role) {
+
+    public static UserPrincipal of(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getName(), user.getPicture(), user.getRole());
+    }
+}
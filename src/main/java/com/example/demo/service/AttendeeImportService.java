@@ -0,0 +1,338 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.AttendeeImportResult;
+import com.example.demo.model.Attendee;
+import com.example.demo.model.Event;
+import com.example.demo.repository.AttendeeRepository;
+import com.example.demo.repository.EventRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Imports attendees from a streamed CSV or JSON array body. Rows are validated and deduplicated
+ * by email against the event as they are read, then inserted in chunks; each chunk commits in its
+ * own transaction and goes to the database as JDBC batches (see {@code hibernate.jdbc.batch_size}).
+ */
+@Service
+public class AttendeeImportService {
+
+    public enum Format { CSV, JSON }
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MAX_FIELD_LENGTH = 255;
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private AttendeeRepository attendeeRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EventProgressTracker progressTracker;
+    @Autowired
+    private EventChangeClock changeClock;
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${attendee-import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${attendee-import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    public AttendeeImportService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Returns null when the event does not exist
+    public AttendeeImportResult importAttendees(UUID eventId, Format format, InputStream body) {
+        if (!eventRepository.existsById(eventId)) {
+            return null;
+        }
+        long start = System.nanoTime();
+
+        Set<String> seenEmails = new HashSet<>();
+        for (String email : attendeeRepository.findEmailsByEventId(eventId)) {
+            if (email != null) {
+                seenEmails.add(Attendee.normalizeEmail(email));
+            }
+        }
+
+        List<AttendeeImportResult.RowError> errors = new ArrayList<>();
+        List<Attendee> chunk = new ArrayList<>(chunkSize);
+        int imported = 0;
+        int duplicates = 0;
+        int invalid = 0;
+        long eventVersion = 0;
+        String error = null;
+
+        try (RowReader reader = format == Format.CSV ? new CsvRowReader(body) : new JsonRowReader(body)) {
+            String[] row;
+            while ((row = reader.next()) != null) {
+                String reason = validate(row);
+                if (reason != null) {
+                    invalid++;
+                    if (errors.size() < maxReportedErrors) {
+                        errors.add(new AttendeeImportResult.RowError(reader.rowNumber(), reason));
+                    }
+                    continue;
+                }
+                String email = row[1].trim();
+                if (!seenEmails.add(Attendee.normalizeEmail(email))) {
+                    duplicates++;
+                    continue;
+                }
+                Attendee attendee = new Attendee();
+                attendee.setName(row[0].trim());
+                attendee.setEmail(email);
+                chunk.add(attendee);
+                if (chunk.size() >= chunkSize) {
+                    eventVersion = insertChunk(eventId, chunk);
+                    imported += chunk.size();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                eventVersion = insertChunk(eventId, chunk);
+                imported += chunk.size();
+            }
+        } catch (IOException e) {
+            // Malformed body: chunks already committed stay, the partial chunk is dropped
+            String detail = e instanceof JsonProcessingException jsonError ? jsonError.getOriginalMessage() : e.getMessage();
+            error = "Could not read import body: " + detail;
+        }
+
+        long durationMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        double rowsPerSecond = imported * 1000.0 / durationMs;
+        return new AttendeeImportResult(imported, duplicates, invalid, errors, eventVersion,
+                durationMs, rowsPerSecond, error);
+    }
+
+    // One transaction per chunk: tick the event's change clock, persist, flush as batches
+    private long insertChunk(UUID eventId, List<Attendee> chunk) {
+        return transactionTemplate.execute(status -> {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new RuntimeException("Event not found"));
+            long eventVersion = changeClock.tick(eventId);
+            for (Attendee attendee : chunk) {
+                attendee.setEvent(event);
+                attendee.setEventVersion(eventVersion);
+                entityManager.persist(attendee);
+            }
+            entityManager.flush();
+            progressTracker.attendeesAdded(eventId, chunk.size());
+            // The request-scoped persistence context would otherwise keep every imported row
+            entityManager.clear();
+            return eventVersion;
+        });
+    }
+
+    private String validate(String[] row) {
+        if (row.length < 2) {
+            return "Expected name and email";
+        }
+        String name = row[0] != null ? row[0].trim() : "";
+        String email = row[1] != null ? row[1].trim() : "";
+        if (name.isEmpty()) {
+            return "Name is required";
+        }
+        if (email.isEmpty()) {
+            return "Email is required";
+        }
+        if (name.length() > MAX_FIELD_LENGTH || email.length() > MAX_FIELD_LENGTH) {
+            return "Name and email must be at most " + MAX_FIELD_LENGTH + " characters";
+        }
+        if (!EMAIL.matcher(email).matches()) {
+            return "Invalid email: " + email;
+        }
+        return null;
+    }
+
+    // Yields {name, email} per record, or null at the end of the body
+    private interface RowReader extends AutoCloseable {
+        String[] next() throws IOException;
+
+        long rowNumber();
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * RFC 4180 CSV with a header row naming the {@code name} and {@code email} columns (any order,
+     * extra columns ignored). Quoted fields may contain separators, doubled quotes and line breaks.
+     */
+    private static final class CsvRowReader implements RowReader {
+        private final BufferedReader reader;
+        private int nameColumn = -1;
+        private int emailColumn = -1;
+        private long row;
+
+        CsvRowReader(InputStream in) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            List<String> header = readRecord();
+            if (header == null) {
+                return;
+            }
+            for (int i = 0; i < header.size(); i++) {
+                String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+                // Spreadsheet exports often start with a byte order mark
+                if (i == 0 && column.startsWith("\uFEFF")) {
+                    column = column.substring(1);
+                }
+                if (column.equals("name")) {
+                    nameColumn = i;
+                } else if (column.equals("email")) {
+                    emailColumn = i;
+                }
+            }
+            if (nameColumn < 0 || emailColumn < 0) {
+                throw new IOException("CSV header must contain name and email columns");
+            }
+        }
+
+        @Override
+        public String[] next() throws IOException {
+            if (nameColumn < 0) {
+                return null;
+            }
+            List<String> record;
+            do {
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+                row++;
+            } while (record.size() == 1 && record.get(0).isBlank());
+            return new String[]{
+                    nameColumn < record.size() ? record.get(nameColumn) : null,
+                    emailColumn < record.size() ? record.get(emailColumn) : null
+            };
+        }
+
+        @Override
+        public long rowNumber() {
+            return row;
+        }
+
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IOException("Unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int peek = reader.read();
+                        if (peek == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * A JSON array of {@code {"name": ..., "email": ...}} objects, read one element at a time.
+     */
+    private final class JsonRowReader implements RowReader {
+        private final JsonParser parser;
+        private long row;
+
+        JsonRowReader(InputStream in) throws IOException {
+            this.parser = objectMapper.getFactory().createParser(in);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of attendees");
+            }
+        }
+
+        @Override
+        public String[] next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) {
+                return null;
+            }
+            row++;
+            JsonNode node = parser.readValueAsTree();
+            if (node == null || !node.isObject()) {
+                return new String[0];
+            }
+            return new String[]{text(node, "name"), text(node, "email")};
+        }
+
+        @Override
+        public long rowNumber() {
+            return row;
+        }
+
+        private String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value != null && value.isTextual() ? value.asText() : null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.example.demo.service;
 
+import com.example.demo.config.PaginationProperties;
+import com.example.demo.dto.AttendeeView;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.model.Attendee;
 import com.example.demo.model.Event;
+import com.example.demo.model.Tombstone;
 import com.example.demo.repository.AttendeeRepository;
 import com.example.demo.repository.EventRepository;
+import com.example.demo.repository.TombstoneRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +24,14 @@ public class AttendeeService {
     private AttendeeRepository attendeeRepository;
     @Autowired
     private EventRepository eventRepository;
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+    @Autowired
+    private PaginationProperties paginationProperties;
+    @Autowired
+    private EventProgressTracker progressTracker;
+    @Autowired
+    private EventChangeClock changeClock;
 
     public List<Attendee> getAttendeesByEvent(UUID eventId) {
         return attendeeRepository.findByEventId(eventId);
@@ -37,16 +52,37 @@ public class AttendeeService {
         return getAttendeesForEvent(eventId.toString());
     }
 
+    // Keyset page of an event's attendees; after is the id of the last attendee on the previous page
+    public CursorPage<AttendeeView> getAttendeesPage(String eventId, String after, Integer limit) {
+        UUID eventUuid;
+        UUID afterId;
+        try {
+            eventUuid = UUID.fromString(eventId);
+            afterId = after != null ? UUID.fromString(after) : null;
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid event ID or cursor format");
+        }
+        int pageSize = paginationProperties.resolveLimit(limit, afterId != null);
+        List<AttendeeView> rows = attendeeRepository.findPage(eventUuid, afterId, pageSize + 1);
+        return CursorPage.of(rows, pageSize, AttendeeView::id);
+    }
+
+    @Transactional
     public Attendee addAttendee(UUID eventId, Attendee attendee) {
         Optional<Event> eventOpt = eventRepository.findById(eventId);
         if (eventOpt.isPresent()) {
             attendee.setEvent(eventOpt.get());
-            return attendeeRepository.save(attendee);
+            attendee.setEventVersion(changeClock.tick(eventId));
+            attendee.setVersion(null);
+            Attendee saved = attendeeRepository.save(attendee);
+            progressTracker.attendeesAdded(eventId, 1);
+            return saved;
         }
         throw new RuntimeException("Event not found");
     }
 
     // Method for controller compatibility
+    @Transactional
     public Attendee createAttendee(String eventId, Attendee attendee) {
         try {
             UUID uuid = UUID.fromString(eventId);
@@ -61,11 +97,18 @@ public class AttendeeService {
         return createAttendee(eventId.toString(), attendee);
     }
 
+    @Transactional
     public void deleteAttendee(UUID attendeeId) {
-        attendeeRepository.deleteById(attendeeId);
+        attendeeRepository.findById(attendeeId).ifPresent(attendee -> {
+            UUID eventId = attendee.getEvent().getId();
+            tombstoneRepository.save(new Tombstone(eventId, Tombstone.EntityType.ATTENDEE, attendeeId, changeClock.tick(eventId)));
+            attendeeRepository.delete(attendee);
+            progressTracker.attendeesAdded(eventId, -1);
+        });
     }
 
     // Method for controller compatibility
+    @Transactional
     public boolean deleteAttendee(String eventId, String attendeeId) {
         try {
             UUID uuid = UUID.fromString(attendeeId);
@@ -81,15 +124,21 @@ public class AttendeeService {
         return deleteAttendee(eventId.toString(), attendeeId.toString());
     }
 
+    @Transactional
     public Attendee updateAttendee(UUID attendeeId, Attendee updated) {
         Attendee attendee = attendeeRepository.findById(attendeeId)
                 .orElseThrow(() -> new RuntimeException("Attendee not found"));
+        if (updated.getVersion() != null && !updated.getVersion().equals(attendee.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Attendee.class, attendeeId);
+        }
         attendee.setName(updated.getName());
         attendee.setEmail(updated.getEmail());
+        attendee.setEventVersion(changeClock.tick(attendee.getEvent().getId()));
         return attendeeRepository.save(attendee);
     }
 
     // Method for controller compatibility
+    @Transactional
     public Attendee updateAttendee(String eventId, String attendeeId, Attendee updated) {
         try {
             UUID uuid = UUID.fromString(attendeeId);
@@ -0,0 +1,314 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.TaskDeadline;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.websocket.EventProgressWebSocketHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Sends TASK_DUE to an event's subscribers when the day an open task is due starts, and
+ * TASK_OVERDUE when that day ends, in the zone set by {@code deadline-reminders.zone}. Pending
+ * reminders wait in a {@link TimingWheel} instead of the task table being polled: deadlines are
+ * loaded a day at a time, {@code deadline-reminders.window-days} ahead, and {@link TaskService}
+ * reports deadlines set inside the loaded window once its transaction commits.
+ *
+ * <p>Reminders are never looked up to be replaced, so there is no index by task. A task whose
+ * deadline moves gets a second reminder, and completed or deleted tasks keep theirs; the fired
+ * reminders of each tick are checked against the database before anything is sent, which drops
+ * the stale ones. That keeps a pending reminder to one object of about 56 bytes.
+ */
+@Service
+public class DeadlineReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineReminderScheduler.class);
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int CHECK_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private EventProgressWebSocketHandler webSocketHandler;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    @Qualifier("deadlineReminderTicker")
+    private TaskScheduler ticker;
+
+    @Value("${deadline-reminders.enabled:true}")
+    private boolean enabled;
+
+    @Value("${deadline-reminders.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${deadline-reminders.window-days:7}")
+    private int windowDays;
+
+    // Empty means the server's default zone, the one the progress summary counts overdue tasks in
+    @Value("${deadline-reminders.zone:}")
+    private String zoneId;
+
+    private ZoneId zone;
+    private Counter dueSent;
+    private Counter overdueSent;
+
+    private final Object lock = new Object();
+    // Both guarded by lock; the wheel is null until startup, or for good when disabled
+    private TimingWheel<Reminder> wheel;
+    // Deadlines before this day are in the wheel, later ones are loaded as the window moves
+    private LocalDate loadedUntil;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        zone = zoneId.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zoneId);
+        dueSent = Counter.builder("deadline.reminders.sent").tag("type", "TASK_DUE").register(meterRegistry);
+        overdueSent = Counter.builder("deadline.reminders.sent").tag("type", "TASK_OVERDUE").register(meterRegistry);
+        long now = System.currentTimeMillis();
+        synchronized (lock) {
+            // The last loaded day's TASK_OVERDUE fires at the end of the window, up to windowDays + 1 days ahead
+            wheel = new TimingWheel<>(tickMs, WHEEL_SIZE, Duration.ofDays(windowDays + 2L).toMillis(), now);
+            loadedUntil = today(now);
+        }
+        Gauge.builder("deadline.reminders.pending", this, DeadlineReminderScheduler::pending).register(meterRegistry);
+        extendWindow(today(now));
+        ticker.scheduleAtFixedRate(this::tick, Duration.ofMillis(tickMs));
+    }
+
+    public void taskAdded(UUID taskId, UUID eventId, boolean completed, LocalDate deadline) {
+        if (!completed && deadline != null) {
+            TransactionHooks.afterCommit(() -> schedule(taskId, eventId, deadline));
+        }
+    }
+
+    // A reminder is already pending unless the deadline moved or the task was reopened
+    public void taskChanged(UUID taskId, UUID eventId, boolean wasCompleted, LocalDate oldDeadline,
+                            boolean completed, LocalDate deadline) {
+        if (!completed && deadline != null && (wasCompleted || !deadline.equals(oldDeadline))) {
+            TransactionHooks.afterCommit(() -> schedule(taskId, eventId, deadline));
+        }
+    }
+
+    public void tasksRescheduled(UUID eventId, List<UUID> taskIds, LocalDate deadline) {
+        if (deadline != null) {
+            TransactionHooks.afterCommit(() -> taskIds.forEach(taskId -> schedule(taskId, eventId, deadline)));
+        }
+    }
+
+    // The reopened tasks' deadlines are not at hand, so they are read on the ticker thread
+    public void tasksReopened(List<UUID> taskIds) {
+        if (!enabled) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> ticker.schedule(() -> {
+            for (TaskDeadline task : taskRepository.findOpenDeadlinesByIdIn(taskIds)) {
+                schedule(task.taskId(), task.eventId(), task.deadline());
+            }
+        }, Instant.now()));
+    }
+
+    private void tick() {
+        // An exception escaping would cancel the fixed-rate schedule
+        try {
+            long now = System.currentTimeMillis();
+            extendWindow(today(now));
+            List<Reminder> fired = new ArrayList<>();
+            synchronized (lock) {
+                wheel.advance(now, fired::add);
+            }
+            if (!fired.isEmpty()) {
+                send(fired);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Deadline reminder tick failed", e);
+        }
+    }
+
+    // Loads the open deadlines of the days that entered the window since the last load
+    private void extendWindow(LocalDate today) {
+        LocalDate from;
+        LocalDate to = today.plusDays(windowDays);
+        synchronized (lock) {
+            if (!loadedUntil.isBefore(to)) {
+                return;
+            }
+            from = loadedUntil.isBefore(today) ? today : loadedUntil;
+            // Moved first, so deadlines committed while loading are scheduled by the services too
+            loadedUntil = to;
+        }
+        long start = System.currentTimeMillis();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        Integer loaded = transaction.execute(status -> {
+            // Rows are separate objects even for the same event; share one id per event
+            Map<UUID, UUID> eventIds = new HashMap<>();
+            List<TaskDeadline> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            int count = 0;
+            try (Stream<TaskDeadline> rows = taskRepository.streamOpenDeadlines(from, to)) {
+                for (TaskDeadline row : (Iterable<TaskDeadline>) rows::iterator) {
+                    batch.add(new TaskDeadline(row.taskId(), eventIds.computeIfAbsent(row.eventId(), id -> id),
+                            row.deadline()));
+                    if (batch.size() == LOAD_BATCH_SIZE) {
+                        count += scheduleAll(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            return count + scheduleAll(batch);
+        });
+        logger.info("Scheduled reminders for {} open tasks due from {} to {} in {} ms",
+                loaded, from, to.minusDays(1), System.currentTimeMillis() - start);
+    }
+
+    private int scheduleAll(List<TaskDeadline> tasks) {
+        int scheduled = 0;
+        synchronized (lock) {
+            long now = System.currentTimeMillis();
+            for (TaskDeadline task : tasks) {
+                if (scheduleLocked(task.taskId(), task.eventId(), task.deadline(), now)) {
+                    scheduled++;
+                }
+            }
+        }
+        return scheduled;
+    }
+
+    private void schedule(UUID taskId, UUID eventId, LocalDate deadline) {
+        synchronized (lock) {
+            if (wheel != null && deadline.isBefore(loadedUntil)) {
+                scheduleLocked(taskId, eventId, deadline, System.currentTimeMillis());
+            }
+        }
+    }
+
+    // The next reminder still ahead for the deadline: TASK_DUE, or TASK_OVERDUE once its day has started
+    private boolean scheduleLocked(UUID taskId, UUID eventId, LocalDate deadline, long now) {
+        Reminder reminder = new Reminder(taskId, eventId, deadline);
+        long dueAt = startOf(deadline);
+        if (dueAt > now) {
+            return wheel.schedule(reminder, dueAt);
+        }
+        long overdueAt = startOf(deadline.plusDays(1));
+        if (overdueAt > now) {
+            reminder.overdue = true;
+            return wheel.schedule(reminder, overdueAt);
+        }
+        return false;
+    }
+
+    private void send(List<Reminder> fired) {
+        // Per reminder type and deadline; a task whose deadline moved away and back has two
+        // reminders firing in the same tick, and the map keeps one
+        Map<Long, Map<UUID, Reminder>> groups = new LinkedHashMap<>();
+        for (Reminder reminder : fired) {
+            long key = reminder.deadlineDay * 2L + (reminder.overdue ? 1 : 0);
+            groups.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(reminder.taskId(), reminder);
+        }
+        for (Map<UUID, Reminder> group : groups.values()) {
+            Reminder first = group.values().iterator().next();
+            LocalDate deadline = LocalDate.ofEpochDay(first.deadlineDay);
+            Set<UUID> open = openTasks(new ArrayList<>(group.keySet()), deadline);
+            Map<UUID, List<UUID>> byEvent = new LinkedHashMap<>();
+            List<Reminder> nextOverdue = new ArrayList<>();
+            for (Map.Entry<UUID, Reminder> entry : group.entrySet()) {
+                if (!open.contains(entry.getKey())) {
+                    continue;
+                }
+                byEvent.computeIfAbsent(entry.getValue().eventId, id -> new ArrayList<>()).add(entry.getKey());
+                if (!entry.getValue().overdue) {
+                    nextOverdue.add(entry.getValue());
+                }
+            }
+            String type = first.overdue ? "TASK_OVERDUE" : "TASK_DUE";
+            byEvent.forEach((eventId, taskIds) ->
+                    webSocketHandler.broadcastTaskDeadlines(eventId.toString(), type, deadline, taskIds));
+            (first.overdue ? overdueSent : dueSent).increment(open.size());
+            if (!nextOverdue.isEmpty()) {
+                long overdueAt = startOf(deadline.plusDays(1));
+                synchronized (lock) {
+                    for (Reminder reminder : nextOverdue) {
+                        reminder.overdue = true;
+                        wheel.schedule(reminder, overdueAt);
+                    }
+                }
+            }
+        }
+    }
+
+    // The given tasks that are still open and still due on the day their reminder was set for
+    private Set<UUID> openTasks(List<UUID> taskIds, LocalDate deadline) {
+        Set<UUID> open = new HashSet<>();
+        for (int i = 0; i < taskIds.size(); i += CHECK_CHUNK_SIZE) {
+            List<UUID> chunk = taskIds.subList(i, Math.min(i + CHECK_CHUNK_SIZE, taskIds.size()));
+            open.addAll(taskRepository.findOpenIdsByIdInAndDeadline(chunk, deadline));
+        }
+        return open;
+    }
+
+    private double pending() {
+        synchronized (lock) {
+            return wheel != null ? wheel.size() : 0;
+        }
+    }
+
+    private LocalDate today(long now) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(now), zone);
+    }
+
+    private long startOf(LocalDate day) {
+        return day.atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    // The task id is kept as two longs rather than a UUID to save an object per reminder
+    private static final class Reminder extends TimingWheel.Entry {
+        final long taskIdHigh;
+        final long taskIdLow;
+        final UUID eventId;
+        final int deadlineDay;
+        boolean overdue;
+
+        Reminder(UUID taskId, UUID eventId, LocalDate deadline) {
+            this.taskIdHigh = taskId.getMostSignificantBits();
+            this.taskIdLow = taskId.getLeastSignificantBits();
+            this.eventId = Objects.requireNonNull(eventId);
+            this.deadlineDay = (int) deadline.toEpochDay();
+        }
+
+        UUID taskId() {
+            return new UUID(taskIdHigh, taskIdLow);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.service;
+
+import com.example.demo.model.EventClock;
+import com.example.demo.repository.EventClockRepository;
+import com.example.demo.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Hands out the version that stamps a change to an event or its tasks and attendees. The clock row
+ * stays locked until the caller commits, so an event's changes commit in version order and a delta
+ * sync reader that has seen version N has seen every change at or below it. Only the small
+ * {@code event_clock} row is locked and written; the event row and its cache entry are left alone.
+ */
+@Service
+public class EventChangeClock {
+    @Autowired
+    private EventClockRepository eventClockRepository;
+    @Autowired
+    private EventRepository eventRepository;
+
+    // Call before writing the change; throws if the event does not exist
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long tick(UUID eventId) {
+        if (eventClockRepository.increment(eventId) == 0) {
+            // The event's first change: concurrent first writers queue on the event row, and the one
+            // that goes second finds the clock the first created
+            if (eventRepository.lockByIdIn(List.of(eventId)).isEmpty()) {
+                throw new RuntimeException("Event not found");
+            }
+            if (eventClockRepository.increment(eventId) == 0) {
+                eventClockRepository.saveAndFlush(new EventClock(eventId, 1));
+                return 1;
+            }
+        }
+        return eventClockRepository.findVersion(eventId).orElseThrow();
+    }
+
+    // Version of the event's latest committed change, 0 if it has none
+    public long current(UUID eventId) {
+        return eventClockRepository.findVersion(eventId).orElse(0L);
+    }
+}
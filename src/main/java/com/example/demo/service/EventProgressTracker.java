@@ -0,0 +1,206 @@
+package com.example.demo.service;
+
+import com.example.demo.config.WebSocketProperties;
+import com.example.demo.dto.EventSummary;
+import com.example.demo.dto.TaskStateCount;
+import com.example.demo.repository.AttendeeRepository;
+import com.example.demo.repository.EventRepository;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.websocket.EventProgressWebSocketHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory progress counters per event, adjusted by the services as tasks and attendees change
+ * instead of being recounted. Deltas are applied after the surrounding transaction commits, so
+ * rolled-back changes never count. Open tasks are kept in a deadline histogram, which lets the
+ * overdue count be read for any day without touching the database.
+ *
+ * <p>The counters are loaded with aggregate queries at startup and can be rebuilt the same way;
+ * changes committed while a rebuild is running may be counted twice or not at all until the next one.
+ */
+@Service
+public class EventProgressTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventProgressTracker.class);
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private AttendeeRepository attendeeRepository;
+    @Autowired
+    private EventProgressWebSocketHandler webSocketHandler;
+    @Autowired
+    private WebSocketProperties webSocketProperties;
+    @Autowired
+    @Qualifier("webSocketBatchScheduler")
+    private TaskScheduler scheduler;
+
+    private volatile Map<UUID, Counters> counters = new ConcurrentHashMap<>();
+
+    // Events with a PROGRESS frame waiting for the end of the batch window
+    private final Set<UUID> pendingFrames = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<UUID, Counters> rebuilt = new ConcurrentHashMap<>();
+        for (Object[] row : attendeeRepository.countPerEvent()) {
+            Counters eventCounters = new Counters();
+            eventCounters.attendees = ((Number) row[1]).longValue();
+            rebuilt.put((UUID) row[0], eventCounters);
+        }
+        for (TaskStateCount state : taskRepository.countStates()) {
+            Counters eventCounters = rebuilt.get(state.eventId());
+            if (eventCounters != null) {
+                eventCounters.apply(state.completed(), state.deadline(), state.count());
+            }
+        }
+        counters = rebuilt;
+        logger.info("Rebuilt progress counters for {} events in {} ms", rebuilt.size(), System.currentTimeMillis() - start);
+    }
+
+    // Null when the event does not exist
+    public EventSummary getSummary(UUID eventId) {
+        Counters eventCounters = counters.get(eventId);
+        if (eventCounters == null) {
+            eventCounters = load(eventId);
+            if (eventCounters == null) {
+                return null;
+            }
+        }
+        return eventCounters.summary(eventId, LocalDate.now());
+    }
+
+    public void eventCreated(UUID eventId) {
+        TransactionHooks.afterCommit(() -> counters.putIfAbsent(eventId, new Counters()));
+    }
+
+    public void eventsRemoved(Collection<UUID> eventIds) {
+        TransactionHooks.afterCommit(() -> eventIds.forEach(counters::remove));
+    }
+
+    public void taskAdded(UUID eventId, boolean completed, LocalDate deadline) {
+        update(eventId, c -> c.apply(completed, deadline, 1));
+    }
+
+    public void taskChanged(UUID eventId, boolean wasCompleted, LocalDate oldDeadline, boolean completed, LocalDate deadline) {
+        if (wasCompleted == completed && Objects.equals(oldDeadline, deadline)) {
+            return;
+        }
+        update(eventId, c -> {
+            c.apply(wasCompleted, oldDeadline, -1);
+            c.apply(completed, deadline, 1);
+        });
+    }
+
+    public void taskRemoved(UUID eventId, boolean completed, LocalDate deadline) {
+        update(eventId, c -> c.apply(completed, deadline, -1));
+    }
+
+    // Bulk changes: the states of the affected tasks before and after, as grouped counts
+    public void tasksReplaced(UUID eventId, List<TaskStateCount> before, List<TaskStateCount> after) {
+        update(eventId, c -> {
+            before.forEach(state -> c.apply(state.completed(), state.deadline(), -state.count()));
+            after.forEach(state -> c.apply(state.completed(), state.deadline(), state.count()));
+        });
+    }
+
+    public void attendeesAdded(UUID eventId, long count) {
+        update(eventId, c -> c.attendees += count);
+    }
+
+    private Counters load(UUID eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            return null;
+        }
+        Counters loaded = new Counters();
+        loaded.attendees = attendeeRepository.countByEventId(eventId);
+        for (TaskStateCount state : taskRepository.countStatesByEventId(eventId)) {
+            loaded.apply(state.completed(), state.deadline(), state.count());
+        }
+        Counters existing = counters.putIfAbsent(eventId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    // Events not yet tracked are skipped: their first summary read loads committed state
+    private void update(UUID eventId, Consumer<Counters> change) {
+        TransactionHooks.afterCommit(() -> {
+            Counters eventCounters = counters.get(eventId);
+            if (eventCounters == null) {
+                return;
+            }
+            synchronized (eventCounters) {
+                change.accept(eventCounters);
+            }
+            schedulePush(eventId);
+        });
+    }
+
+    // One PROGRESS frame per event per batch window, however many changes landed in it
+    private void schedulePush(UUID eventId) {
+        if (!pendingFrames.add(eventId)) {
+            return;
+        }
+        long windowMs = webSocketProperties.getBatch().getWindowMs();
+        if (windowMs <= 0) {
+            push(eventId);
+        } else {
+            scheduler.schedule(() -> push(eventId), Instant.now().plusMillis(windowMs));
+        }
+    }
+
+    private void push(UUID eventId) {
+        pendingFrames.remove(eventId);
+        Counters eventCounters = counters.get(eventId);
+        if (eventCounters != null) {
+            webSocketHandler.broadcastProgress(eventId.toString(), eventCounters.summary(eventId, LocalDate.now()));
+        }
+    }
+
+    private static final class Counters {
+        long total;
+        long completed;
+        long attendees;
+        // Open (not completed) tasks per deadline
+        final TreeMap<LocalDate, Long> openByDeadline = new TreeMap<>();
+
+        void apply(boolean isCompleted, LocalDate deadline, long count) {
+            total += count;
+            if (isCompleted) {
+                completed += count;
+            } else if (deadline != null) {
+                openByDeadline.merge(deadline, count, (a, b) -> a + b == 0 ? null : a + b);
+            }
+        }
+
+        synchronized EventSummary summary(UUID eventId, LocalDate today) {
+            long overdue = 0;
+            for (long count : openByDeadline.headMap(today).values()) {
+                overdue += count;
+            }
+            double rate = total > 0 ? (double) completed / total : 0.0;
+            return new EventSummary(eventId, total, completed, overdue, attendees, rate);
+        }
+    }
+}
@@ -1,11 +1,29 @@
 package com.example.demo.service;
 
+import com.example.demo.config.PaginationProperties;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.EventChanges;
+import com.example.demo.dto.EventFilter;
 import com.example.demo.model.Event;
+import com.example.demo.model.Tombstone;
+import com.example.demo.repository.AttendeeRepository;
+import com.example.demo.repository.EventClockRepository;
 import com.example.demo.repository.EventRepository;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.repository.TombstoneRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,34 +31,170 @@ import java.util.UUID;
 public class EventService {
     @Autowired
     private EventRepository eventRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private AttendeeRepository attendeeRepository;
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+    @Autowired
+    private EventClockRepository eventClockRepository;
+    @Autowired
+    private EventChangeClock changeClock;
+    @Autowired
+    private PaginationProperties paginationProperties;
+    @Autowired
+    private EventProgressTracker progressTracker;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     public List<Event> getAllEvents() {
         return eventRepository.findAll();
     }
 
+    // Keyset page of events; after is the id of the last event on the previous page
+    public CursorPage<Event> getEventsPage(EventFilter filter, UUID after, Integer limit) {
+        int pageSize = paginationProperties.resolveLimit(limit, after != null);
+        List<Event> rows = eventRepository.findPage(filter, after, pageSize + 1);
+        return CursorPage.of(rows, pageSize, Event::getId);
+    }
+
     public Event getEventById(UUID id) {
         return eventRepository.findById(id).orElse(null);
     }
 
     public Event createEvent(Event event) {
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        progressTracker.eventCreated(saved.getId());
+        return saved;
     }
 
+    @Transactional
     public Event updateEvent(UUID id, Event eventDetails) {
+        // No client version check here, as before; concurrent writers still fail at flush.
+        // Task and attendee changes tick the change clock only, so they leave the cached event alone
         return eventRepository.findById(id).map(event -> {
             event.setName(eventDetails.getName());
             event.setDate(eventDetails.getDate());
             event.setDescription(eventDetails.getDescription());
             event.setLocation(eventDetails.getLocation());
+            event.setEventVersion(changeClock.tick(id));
             return eventRepository.save(event);
         }).orElse(null);
     }
 
+    // Result of one duplicate cleanup chunk; lastCandidateId is the keyset position for the next one
+    public record DuplicateCleanupChunk(List<UUID> deletedEventIds, UUID lastCandidateId,
+                                        int deletedTasks, int deletedAttendees) {
+    }
+
+    // Deletes up to limit duplicate events (same name and date as an event with a lower id, which
+    // is kept) with their tasks, attendees and tombstones, in one transaction
+    @Transactional
+    public DuplicateCleanupChunk deleteDuplicateEventsChunk(UUID after, int limit) {
+        List<UUID> candidates = eventRepository.findDuplicateIdsAfter(after, Limit.of(limit));
+        if (candidates.isEmpty()) {
+            return new DuplicateCleanupChunk(List.of(), null, 0, 0);
+        }
+        // Events deleted since the candidates were read simply drop out here
+        List<UUID> ids = eventRepository.lockByIdIn(candidates).stream().map(Event::getId).toList();
+        if (ids.isEmpty()) {
+            return new DuplicateCleanupChunk(List.of(), candidates.get(candidates.size() - 1), 0, 0);
+        }
+        // Waits for changes already holding a clock row to commit
+        eventClockRepository.lockByEventIdIn(ids);
+        taskRepository.unassignAttendeesOfEvents(ids);
+        int deletedTasks = taskRepository.deleteByEventIdIn(ids);
+        int deletedAttendees = attendeeRepository.deleteByEventIdIn(ids);
+        tombstoneRepository.deleteByEventIdIn(ids);
+        eventClockRepository.deleteByEventIdIn(ids);
+        eventRepository.deleteByIdIn(ids);
+        progressTracker.eventsRemoved(ids);
+        return new DuplicateCleanupChunk(ids, candidates.get(candidates.size() - 1), deletedTasks, deletedAttendees);
+    }
+
+    // Second-level and query cache counters since startup or the last reset
+    public Map<String, Object> getCacheStatistics(boolean reset) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        stats.put("since", statistics.getStart());
+        stats.put("events", regionStats(statistics.getDomainDataRegionStatistics("events")));
+        stats.put("eventListing", regionStats(statistics.getQueryRegionStatistics("event-listing")));
+        stats.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        stats.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        stats.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        stats.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        // Statements actually sent to the database, across all entities
+        stats.put("entityLoads", statistics.getEntityLoadCount());
+        stats.put("queryExecutions", statistics.getQueryExecutionCount());
+        stats.put("preparedStatements", statistics.getPrepareStatementCount());
+        if (reset) {
+            statistics.clear();
+        }
+        return stats;
+    }
+
+    private static Map<String, Object> regionStats(CacheRegionStatistics region) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (region == null) {
+            return stats;
+        }
+        long hits = region.getHitCount();
+        long misses = region.getMissCount();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("puts", region.getPutCount());
+        stats.put("hitRate", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+        // Negative when the cache provider cannot report it (JCache)
+        if (region.getElementCountInMemory() >= 0) {
+            stats.put("entries", region.getElementCountInMemory());
+        }
+        return stats;
+    }
+
+    @Transactional
     public boolean deleteEvent(UUID id) {
         if (eventRepository.existsById(id)) {
+            eventClockRepository.deleteByEventIdIn(List.of(id));
             eventRepository.deleteById(id);
+            progressTracker.eventsRemoved(List.of(id));
             return true;
         }
         return false;
     }
+
+    /**
+     * Returns the event's tasks, attendees and deletions stamped after {@code since}, or null
+     * if the event does not exist. The change clock is read first: every change commits together
+     * with its clock tick, so nothing at or below the returned version is missed.
+     */
+    @Transactional(readOnly = true)
+    public EventChanges getChangesSince(UUID eventId, long since) {
+        long version = changeClock.current(eventId);
+        Event event = eventRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            return null;
+        }
+
+        List<UUID> deletedTaskIds = new ArrayList<>();
+        List<UUID> deletedAttendeeIds = new ArrayList<>();
+        for (Tombstone tombstone : tombstoneRepository.findByEventIdAndEventVersionGreaterThan(eventId, since)) {
+            if (tombstone.getEntityType() == Tombstone.EntityType.TASK) {
+                deletedTaskIds.add(tombstone.getEntityId());
+            } else {
+                deletedAttendeeIds.add(tombstone.getEntityId());
+            }
+        }
+
+        return new EventChanges(
+                eventId,
+                since,
+                version,
+                event.getEventVersion() > since ? event : null,
+                taskRepository.findByEventIdAndEventVersionGreaterThan(eventId, since),
+                attendeeRepository.findByEventIdAndEventVersionGreaterThan(eventId, since),
+                deletedTaskIds,
+                deletedAttendeeIds);
+    }
 }
@@ -0,0 +1,120 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.AttendeeExportRow;
+import com.example.demo.dto.TaskExportRow;
+import com.example.demo.repository.AttendeeRepository;
+import com.example.demo.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes an event's attendees or tasks straight from a database cursor to an output stream,
+ * one row at a time, so memory use does not grow with the number of rows exported.
+ */
+@Service
+public class ExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final String[] ATTENDEE_COLUMNS = {"id", "name", "email"};
+    private static final String[] TASK_COLUMNS =
+            {"id", "title", "description", "completed", "deadline", "assignedAttendeeId"};
+
+    @Autowired
+    private AttendeeRepository attendeeRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportAttendees(UUID eventId, Format format, OutputStream out) throws IOException {
+        try (Stream<AttendeeExportRow> rows = attendeeRepository.streamExportRows(eventId)) {
+            if (format == Format.CSV) {
+                writeCsv(out, ATTENDEE_COLUMNS, rows.iterator(),
+                        row -> new Object[]{row.id(), row.name(), row.email()});
+            } else {
+                writeNdjson(out, AttendeeExportRow.class, rows.iterator());
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTasks(UUID eventId, Format format, OutputStream out) throws IOException {
+        try (Stream<TaskExportRow> rows = taskRepository.streamExportRows(eventId)) {
+            if (format == Format.CSV) {
+                writeCsv(out, TASK_COLUMNS, rows.iterator(),
+                        row -> new Object[]{row.id(), row.title(), row.description(), row.completed(),
+                                row.deadline(), row.assignedAttendeeId()});
+            } else {
+                writeNdjson(out, TaskExportRow.class, rows.iterator());
+            }
+        }
+    }
+
+    private <T> void writeNdjson(OutputStream out, Class<T> type, Iterator<T> rows) throws IOException {
+        // Without FLUSH_AFTER_WRITE_VALUE every row would be pushed to the socket on its own
+        ObjectWriter writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (rows.hasNext()) {
+            writer.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+
+    private <T> void writeCsv(OutputStream out, String[] columns, Iterator<T> rows,
+                              Function<T, Object[]> values) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvLine(writer, columns);
+        while (rows.hasNext()) {
+            writeCsvLine(writer, values.apply(rows.next()));
+        }
+        writer.flush();
+    }
+
+    private void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvField(writer, values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks; double embedded quotes
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
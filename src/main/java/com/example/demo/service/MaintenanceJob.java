@@ -0,0 +1,70 @@
+package com.example.demo.service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a background maintenance job, polled through {@code /api/events/maintenance/jobs/{id}}.
+ * Counters are updated by the job thread while it runs.
+ */
+public class MaintenanceJob {
+
+    public enum Status { QUEUED, RUNNING, SUCCEEDED, FAILED }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String type;
+    private final String target;
+    private final Instant submittedAt = Instant.now();
+    private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    MaintenanceJob(String type, String target) {
+        this.type = type;
+        this.target = target;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    void succeed() {
+        finishedAt = Instant.now();
+        status = Status.SUCCEEDED;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    void add(String counter, long delta) {
+        counts.computeIfAbsent(counter, key -> new AtomicLong()).addAndGet(delta);
+    }
+
+    boolean isActive() {
+        return status == Status.QUEUED || status == Status.RUNNING;
+    }
+
+    public String getId() { return id; }
+    public String getType() { return type; }
+    public String getTarget() { return target; }
+    public Status getStatus() { return status; }
+    public Instant getSubmittedAt() { return submittedAt; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public String getError() { return error; }
+
+    public Map<String, Long> getCounts() {
+        Map<String, Long> snapshot = new ConcurrentHashMap<>();
+        counts.forEach((key, value) -> snapshot.put(key, value.get()));
+        return snapshot;
+    }
+}
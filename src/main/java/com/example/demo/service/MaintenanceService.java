@@ -0,0 +1,128 @@
+package com.example.demo.service;
+
+import com.example.demo.websocket.EventProgressWebSocketHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Runs maintenance jobs on the single-threaded maintenance executor and keeps their progress for
+ * polling. Submitting a job that is already queued or running for the same target returns that job.
+ */
+@Service
+public class MaintenanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaintenanceService.class);
+    private static final int RETAINED_JOBS = 100;
+
+    public static final String FIX_NULL_TASK_DATA = "FIX_NULL_TASK_DATA";
+    public static final String CLEANUP_DUPLICATE_EVENTS = "CLEANUP_DUPLICATE_EVENTS";
+    public static final String REBUILD_PROGRESS = "REBUILD_PROGRESS";
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventProgressTracker progressTracker;
+    @Autowired
+    private EventProgressWebSocketHandler webSocketHandler;
+    @Autowired
+    @Qualifier("maintenanceExecutor")
+    private Executor maintenanceExecutor;
+
+    @Value("${maintenance.chunk-size:500}")
+    private int chunkSize;
+
+    // Insertion-ordered so the oldest jobs are forgotten first
+    private final Map<String, MaintenanceJob> jobs = new LinkedHashMap<>();
+
+    public MaintenanceJob submitFixNullTaskData(UUID eventId) {
+        return submit(FIX_NULL_TASK_DATA, eventId.toString(), job ->
+                job.add("tasksFixed", taskService.fixNullTaskData(eventId)));
+    }
+
+    // Keyset-driven: each chunk commits on its own, so normal traffic is only blocked per chunk
+    public MaintenanceJob submitCleanupDuplicateEvents() {
+        return submit(CLEANUP_DUPLICATE_EVENTS, null, job -> {
+            UUID after = new UUID(0L, 0L);
+            while (true) {
+                EventService.DuplicateCleanupChunk chunk = eventService.deleteDuplicateEventsChunk(after, chunkSize);
+                if (chunk.lastCandidateId() == null) {
+                    return;
+                }
+                after = chunk.lastCandidateId();
+                job.add("chunks", 1);
+                job.add("eventsDeleted", chunk.deletedEventIds().size());
+                job.add("tasksDeleted", chunk.deletedTasks());
+                job.add("attendeesDeleted", chunk.deletedAttendees());
+                for (UUID eventId : chunk.deletedEventIds()) {
+                    webSocketHandler.broadcastEventDeletion(eventId.toString());
+                }
+            }
+        });
+    }
+
+    // Reloads every event's progress counters with aggregate queries
+    public MaintenanceJob submitRebuildProgress() {
+        return submit(REBUILD_PROGRESS, null, job -> progressTracker.rebuild());
+    }
+
+    public MaintenanceJob getJob(String jobId) {
+        synchronized (jobs) {
+            return jobs.get(jobId);
+        }
+    }
+
+    public List<MaintenanceJob> getJobs() {
+        synchronized (jobs) {
+            return new ArrayList<>(jobs.values());
+        }
+    }
+
+    private MaintenanceJob submit(String type, String target, Consumer<MaintenanceJob> work) {
+        MaintenanceJob job;
+        synchronized (jobs) {
+            for (MaintenanceJob existing : jobs.values()) {
+                if (existing.isActive() && existing.getType().equals(type)
+                        && (target == null ? existing.getTarget() == null : target.equals(existing.getTarget()))) {
+                    return existing;
+                }
+            }
+            job = new MaintenanceJob(type, target);
+            jobs.put(job.getId(), job);
+            Iterator<MaintenanceJob> oldest = jobs.values().iterator();
+            while (jobs.size() > RETAINED_JOBS && oldest.hasNext()) {
+                if (!oldest.next().isActive()) {
+                    oldest.remove();
+                }
+            }
+        }
+        maintenanceExecutor.execute(() -> run(job, work));
+        return job;
+    }
+
+    private void run(MaintenanceJob job, Consumer<MaintenanceJob> work) {
+        job.start();
+        try {
+            work.accept(job);
+            job.succeed();
+            logger.info("Maintenance job {} {} finished: {}", job.getType(), job.getId(), job.getCounts());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            logger.error("Maintenance job {} {} failed", job.getType(), job.getId(), e);
+        }
+    }
+}
@@ -1,15 +1,29 @@
 package com.example.demo.service;
 
+import com.example.demo.config.PaginationProperties;
+import com.example.demo.dto.BulkTaskRequest;
+import com.example.demo.dto.BulkTaskResult;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.TaskFilter;
+import com.example.demo.dto.TaskStateCount;
+import com.example.demo.dto.TaskView;
 import com.example.demo.model.Task;
 import com.example.demo.model.Event;
 import com.example.demo.model.Attendee;
+import com.example.demo.model.Tombstone;
 import com.example.demo.repository.TaskRepository;
 import com.example.demo.repository.EventRepository;
 import com.example.demo.repository.AttendeeRepository;
+import com.example.demo.repository.TombstoneRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,6 +36,19 @@ public class TaskService {
     private EventRepository eventRepository;
     @Autowired
     private AttendeeRepository attendeeRepository;
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+    @Autowired
+    private PaginationProperties paginationProperties;
+    @Autowired
+    private EventProgressTracker progressTracker;
+    @Autowired
+    private DeadlineReminderScheduler deadlineReminders;
+    @Autowired
+    private EventChangeClock changeClock;
+
+    @Value("${task-bulk.max-ids:1000}")
+    private int bulkMaxIds;
 
     public List<Task> getTasksByEvent(UUID eventId) {
         return taskRepository.findByEventId(eventId);
@@ -42,10 +69,28 @@ public class TaskService {
         return getTasksForEvent(eventId.toString());
     }
 
+    // Keyset page of an event's tasks; after is the id of the last task on the previous page
+    public CursorPage<TaskView> getTasksPage(String eventId, TaskFilter filter, String after, Integer limit) {
+        UUID eventUuid;
+        UUID afterId;
+        try {
+            eventUuid = UUID.fromString(eventId);
+            afterId = after != null ? UUID.fromString(after) : null;
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid event ID or cursor format");
+        }
+        int pageSize = paginationProperties.resolveLimit(limit, afterId != null);
+        List<TaskView> rows = taskRepository.findPage(eventUuid, filter, afterId, pageSize + 1);
+        return CursorPage.of(rows, pageSize, TaskView::id);
+    }
+
+    @Transactional
     public Task addTask(UUID eventId, Task task) {
         Optional<Event> eventOpt = eventRepository.findById(eventId);
         if (eventOpt.isPresent()) {
             task.setEvent(eventOpt.get());
+            task.setEventVersion(changeClock.tick(eventId));
+            task.setVersion(null);
             // Set deadline if present
             if (task.getDeadline() != null) {
                 task.setDeadline(task.getDeadline());
@@ -56,12 +101,16 @@ public class TaskService {
             } else {
                 task.setAssignedAttendee(null);
             }
-            return taskRepository.save(task);
+            Task saved = taskRepository.save(task);
+            progressTracker.taskAdded(eventId, saved.isCompleted(), saved.getDeadline());
+            deadlineReminders.taskAdded(saved.getId(), eventId, saved.isCompleted(), saved.getDeadline());
+            return saved;
         }
         throw new RuntimeException("Event not found");
     }
 
     // Method for controller compatibility
+    @Transactional
     public Task createTask(String eventId, Task task) {
         try {
             UUID uuid = UUID.fromString(eventId);
@@ -76,11 +125,18 @@ public class TaskService {
         return createTask(eventId.toString(), task);
     }
 
+    @Transactional
     public void deleteTask(UUID taskId) {
-        taskRepository.deleteById(taskId);
+        taskRepository.findById(taskId).ifPresent(task -> {
+            UUID eventId = task.getEvent().getId();
+            tombstoneRepository.save(new Tombstone(eventId, Tombstone.EntityType.TASK, taskId, changeClock.tick(eventId)));
+            taskRepository.delete(task);
+            progressTracker.taskRemoved(eventId, task.isCompleted(), task.getDeadline());
+        });
     }
 
     // Method for controller compatibility
+    @Transactional
     public void deleteTask(String eventId, String taskId) {
         try {
             UUID uuid = UUID.fromString(taskId);
@@ -95,9 +151,16 @@ public class TaskService {
         deleteTask(eventId.toString(), taskId.toString());
     }
 
+    @Transactional
     public Task updateTask(UUID taskId, Task updated) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
+        // Clients that send the version they last read get a conflict instead of overwriting a newer change
+        if (updated.getVersion() != null && !updated.getVersion().equals(task.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, taskId);
+        }
+        boolean wasCompleted = task.isCompleted();
+        LocalDate oldDeadline = task.getDeadline();
         // Only update fields that are not null to preserve existing data
         if (updated.getTitle() != null) {
             task.setTitle(updated.getTitle());
@@ -117,10 +180,16 @@ public class TaskService {
         } else if (updated.getAssignedAttendee() == null) {
             task.setAssignedAttendee(null);
         }
-        return taskRepository.save(task);
+        task.setEventVersion(changeClock.tick(task.getEvent().getId()));
+        Task saved = taskRepository.save(task);
+        progressTracker.taskChanged(task.getEvent().getId(), wasCompleted, oldDeadline, saved.isCompleted(), saved.getDeadline());
+        deadlineReminders.taskChanged(taskId, task.getEvent().getId(), wasCompleted, oldDeadline,
+                saved.isCompleted(), saved.getDeadline());
+        return saved;
     }
 
     // Method for controller compatibility
+    @Transactional
     public Task updateTask(String eventId, String taskId, Task updated) {
         try {
             UUID uuid = UUID.fromString(taskId);
@@ -135,35 +204,78 @@ public class TaskService {
         return updateTask(eventId.toString(), taskId.toString(), updated);
     }
     
-    // Fix tasks with null titles/descriptions
-    public int fixNullTaskData(String eventId) {
-        try {
-            UUID uuid = UUID.fromString(eventId);
-            List<Task> tasks = getTasksByEvent(uuid);
-            int fixedCount = 0;
-            
-            for (Task task : tasks) {
-                boolean needsUpdate = false;
-                
-                if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
-                    task.setTitle("Untitled Task");
-                    needsUpdate = true;
+    // Applies one operation to many tasks with a single UPDATE/DELETE ... WHERE id IN (...)
+    @Transactional
+    public BulkTaskResult bulkUpdate(UUID eventId, BulkTaskRequest request) {
+        if (request.operation() == null) {
+            throw new IllegalArgumentException("operation is required");
+        }
+        if (request.taskIds() == null || request.taskIds().isEmpty()) {
+            throw new IllegalArgumentException("taskIds must not be empty");
+        }
+        if (request.taskIds().size() > bulkMaxIds) {
+            throw new IllegalArgumentException("At most " + bulkMaxIds + " task ids per request");
+        }
+        if (request.operation() == BulkTaskRequest.Operation.SET_COMPLETED && request.completed() == null) {
+            throw new IllegalArgumentException("completed is required for SET_COMPLETED");
+        }
+
+        long eventVersion = changeClock.tick(eventId);
+        List<UUID> ids = taskRepository.findIdsByEventIdAndIdIn(eventId, new LinkedHashSet<>(request.taskIds()));
+        if (ids.isEmpty()) {
+            return new BulkTaskResult(request.operation(), ids, 0, eventVersion);
+        }
+
+        // Grouped states of the affected tasks before the change, for the progress counters
+        List<TaskStateCount> before = request.operation() == BulkTaskRequest.Operation.REASSIGN
+                ? List.of()
+                : taskRepository.countStatesByIdIn(ids);
+
+        int affected = switch (request.operation()) {
+            case SET_COMPLETED -> taskRepository.bulkSetCompleted(eventId, ids, request.completed(), eventVersion);
+            case SET_DEADLINE -> taskRepository.bulkSetDeadline(eventId, ids, request.deadline(), eventVersion);
+            case REASSIGN -> {
+                if (request.attendeeId() == null) {
+                    yield taskRepository.bulkUnassign(eventId, ids, eventVersion);
                 }
-                
-                if (task.getDescription() == null) {
-                    task.setDescription("");
-                    needsUpdate = true;
+                Attendee attendee = attendeeRepository.findById(request.attendeeId())
+                        .filter(a -> a.getEvent() != null && eventId.equals(a.getEvent().getId()))
+                        .orElseThrow(() -> new IllegalArgumentException("Attendee not found in this event"));
+                yield taskRepository.bulkAssign(eventId, ids, attendee, eventVersion);
+            }
+            case DELETE -> {
+                List<Tombstone> tombstones = new ArrayList<>(ids.size());
+                for (UUID id : ids) {
+                    tombstones.add(new Tombstone(eventId, Tombstone.EntityType.TASK, id, eventVersion));
                 }
-                
-                if (needsUpdate) {
-                    taskRepository.save(task);
-                    fixedCount++;
+                tombstoneRepository.saveAll(tombstones);
+                yield taskRepository.bulkDelete(eventId, ids);
+            }
+        };
+        if (!before.isEmpty()) {
+            List<TaskStateCount> after = new ArrayList<>(before.size());
+            for (TaskStateCount state : before) {
+                switch (request.operation()) {
+                    case SET_COMPLETED -> after.add(new TaskStateCount(eventId, request.completed(), state.deadline(), state.count()));
+                    case SET_DEADLINE -> after.add(new TaskStateCount(eventId, state.completed(), request.deadline(), state.count()));
+                    default -> { }
                 }
             }
-            
-            return fixedCount;
-        } catch (IllegalArgumentException e) {
-            throw new RuntimeException("Invalid event ID format");
+            progressTracker.tasksReplaced(eventId, before, after);
         }
+        // Deleted and completed tasks keep their pending reminders until the send-time check drops them
+        if (request.operation() == BulkTaskRequest.Operation.SET_DEADLINE) {
+            deadlineReminders.tasksRescheduled(eventId, ids, request.deadline());
+        } else if (request.operation() == BulkTaskRequest.Operation.SET_COMPLETED && !request.completed()) {
+            deadlineReminders.tasksReopened(ids);
+        }
+        return new BulkTaskResult(request.operation(), ids, affected, eventVersion);
+    }
+
+    // Fix tasks with null titles/descriptions with one set-based UPDATE
+    @Transactional
+    public int fixNullTaskData(UUID eventId) {
+        long eventVersion = changeClock.tick(eventId);
+        return taskRepository.fillNullTitlesAndDescriptions(eventId, eventVersion);
     }
 }
@@ -0,0 +1,164 @@
+package com.example.demo.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: level 0 has one bucket per tick, and each higher level has buckets
+ * as wide as a whole turn of the level below. Scheduling and cancelling are O(1). Advancing costs
+ * one bucket per level per tick, plus moving each entry down at most once per level as its
+ * expiration approaches. Entries are the doubly-linked list nodes themselves, so a pending entry
+ * costs nothing beyond its own fields.
+ *
+ * <p>Expirations are rounded up to the tick. Times are absolute milliseconds on the caller's
+ * clock. Not thread-safe.
+ */
+final class TimingWheel<E extends TimingWheel.Entry> {
+
+    static class Entry {
+        long expiresAt;
+        Entry prev;
+        Entry next;
+
+        boolean isScheduled() {
+            return prev != null;
+        }
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+    // Bucket width per level: tickMs, tickMs * wheelSize, ...
+    private final long[] spans;
+    // Circular list sentinels, [level][bucket]
+    private final Entry[][] buckets;
+    // Last tick processed, a multiple of tickMs
+    private long currentTime;
+    private int size;
+
+    /**
+     * @param horizonMs the furthest ahead of the current time an entry may be scheduled
+     */
+    TimingWheel(long tickMs, int wheelSize, long horizonMs, long startTime) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs must be positive and wheelSize at least 2");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        // The top level's current turn is partly spent, so only wheelSize - 1 of its buckets are sure to be ahead
+        int levels = 1;
+        for (long reach = tickMs * wheelSize; reach - reach / wheelSize < horizonMs; reach *= wheelSize) {
+            levels++;
+        }
+        this.spans = new long[levels];
+        this.buckets = new Entry[levels][wheelSize];
+        long span = tickMs;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span *= wheelSize;
+            for (int i = 0; i < wheelSize; i++) {
+                Entry sentinel = new Entry();
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                buckets[level][i] = sentinel;
+            }
+        }
+        this.currentTime = startTime - Math.floorMod(startTime, tickMs);
+    }
+
+    /**
+     * Schedules the entry, replacing any earlier schedule. Expirations that are already due fire on
+     * the next tick.
+     *
+     * @return false, leaving the entry unscheduled, when the expiration is beyond the horizon
+     */
+    boolean schedule(E entry, long expiresAt) {
+        cancel(entry);
+        long rounded = expiresAt + Math.floorMod(-expiresAt, tickMs);
+        entry.expiresAt = Math.max(rounded, currentTime + tickMs);
+        if (!place(entry)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    boolean cancel(E entry) {
+        if (!entry.isScheduled()) {
+            return false;
+        }
+        unlink(entry);
+        size--;
+        return true;
+    }
+
+    /**
+     * Processes every tick up to {@code now}, handing expired entries to {@code expired}. They are
+     * unscheduled by then and may be scheduled again from the callback.
+     */
+    @SuppressWarnings("unchecked")
+    void advance(long now, Consumer<? super E> expired) {
+        while (currentTime + tickMs <= now) {
+            currentTime += tickMs;
+            // Highest level first, so entries cascading down land in buckets not yet reached
+            for (int level = spans.length - 1; level >= 0; level--) {
+                if (currentTime % spans[level] != 0) {
+                    continue;
+                }
+                Entry sentinel = buckets[level][index(level, currentTime)];
+                Entry entry = sentinel.next;
+                sentinel.next = sentinel;
+                sentinel.prev = sentinel;
+                while (entry != sentinel) {
+                    Entry next = entry.next;
+                    entry.prev = null;
+                    entry.next = null;
+                    if (entry.expiresAt >= currentTime + tickMs) {
+                        place(entry);
+                    } else {
+                        size--;
+                        expired.accept((E) entry);
+                    }
+                    entry = next;
+                }
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long currentTime() {
+        return currentTime;
+    }
+
+    // Lowest level that reaches the expiration. It never lands in the bucket being processed: an
+    // expiration that close is within reach of the level below
+    private boolean place(Entry entry) {
+        for (int level = 0; level < spans.length; level++) {
+            long bucketStart = currentTime - currentTime % spans[level];
+            if (entry.expiresAt < bucketStart + spans[level] * wheelSize) {
+                link(buckets[level][index(level, entry.expiresAt)], entry);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int index(int level, long time) {
+        return (int) ((time / spans[level]) % wheelSize);
+    }
+
+    private static void link(Entry sentinel, Entry entry) {
+        entry.prev = sentinel.prev;
+        entry.next = sentinel;
+        sentinel.prev.next = entry;
+        sentinel.prev = entry;
+    }
+
+    private static void unlink(Entry entry) {
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+        entry.prev = null;
+        entry.next = null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers in-memory side effects of a change until its transaction commits, so a rollback
+ * leaves no trace of them.
+ */
+final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    // Runs the action after the current transaction commits, or right away outside one
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -2,47 +2,130 @@ package com.example.demo.service;
 
 import com.example.demo.model.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.principal-cache.ttl-seconds:60}")
+    private long principalCacheTtlSeconds;
+
+    @Value("${security.principal-cache.maximum-size:10000}")
+    private long principalCacheMaximumSize;
+
+    // Principals resolved during authentication; only hits are cached so new sign-ups are seen at once.
+    // They hold immutable snapshots, never the entities, which writes load from the repository
+    private Cache<String, UserPrincipal> usersByEmail;
+    private Cache<String, UserPrincipal> usersBySupabaseId;
+    // Principal lookup latency, split by whether the cache answered or the database did
+    private Timer cachedLookups;
+    private Timer databaseLookups;
+
+    @PostConstruct
+    void initPrincipalCache() {
+        usersByEmail = newPrincipalCache();
+        usersBySupabaseId = newPrincipalCache();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByEmail, "principals.email");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersBySupabaseId, "principals.supabase-id");
+        cachedLookups = lookupTimer("hit");
+        databaseLookups = lookupTimer("miss");
+    }
+
+    private Timer lookupTimer(String cacheResult) {
+        return Timer.builder("user.lookup")
+                .description("Principal lookup by email or Supabase user id")
+                .tag("cache", cacheResult)
+                .register(meterRegistry);
+    }
+
+    private Cache<String, UserPrincipal> newPrincipalCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(principalCacheMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(principalCacheTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
     public User createOrUpdateUser(String email, String name, String picture, String supabaseUserId) {
         Optional<User> existingUser = userRepository.findByEmail(email);
         
         if (existingUser.isPresent()) {
             User user = existingUser.get();
+            evict(user);
             user.setName(name);
             user.setPicture(picture);
             user.setSupabaseUserId(supabaseUserId);
-            return userRepository.save(user);
+            return evict(userRepository.save(user));
         } else {
             User newUser = new User(email, name, picture, supabaseUserId);
             // First user becomes admin
             if (userRepository.count() == 0) {
                 newUser.setRole(User.Role.ADMIN);
             }
-            return userRepository.save(newUser);
+            return evict(userRepository.save(newUser));
         }
     }
 
+    // The entity, read from the database; use it to change the user
     public Optional<User> findByEmail(String email) {
-        return userRepository.findByEmail(email);
+        return email != null ? userRepository.findByEmail(email) : Optional.empty();
     }
 
-    public Optional<User> findBySupabaseUserId(String supabaseUserId) {
-        return userRepository.findBySupabaseUserId(supabaseUserId);
+    public Optional<UserPrincipal> findPrincipalByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        UserPrincipal cached = usersByEmail.getIfPresent(email);
+        if (cached != null) {
+            cachedLookups.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(cached);
+        }
+        Optional<UserPrincipal> principal = userRepository.findByEmail(email).map(UserPrincipal::of);
+        principal.ifPresent(found -> usersByEmail.put(email, found));
+        databaseLookups.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return principal;
+    }
+
+    public Optional<UserPrincipal> findPrincipalBySupabaseUserId(String supabaseUserId) {
+        if (supabaseUserId == null) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        UserPrincipal cached = usersBySupabaseId.getIfPresent(supabaseUserId);
+        if (cached != null) {
+            cachedLookups.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(cached);
+        }
+        Optional<UserPrincipal> principal = userRepository.findBySupabaseUserId(supabaseUserId).map(UserPrincipal::of);
+        principal.ifPresent(found -> usersBySupabaseId.put(supabaseUserId, found));
+        databaseLookups.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return principal;
     }
 
     public User createUser(String email, String name, String picture, User.Role role) {
         User newUser = new User(email, name, picture, null);
         newUser.setRole(role);
-        return userRepository.save(newUser);
+        return evict(userRepository.save(newUser));
     }
 
     public User promoteToAdmin(String email) {
@@ -50,12 +133,32 @@ public class UserService {
         if (userOpt.isPresent()) {
             User user = userOpt.get();
             user.setRole(User.Role.ADMIN);
-            return userRepository.save(user);
+            return evict(userRepository.save(user));
         }
         throw new RuntimeException("User not found");
     }
 
     public User save(User user) {
-        return userRepository.save(user);
+        evict(user);
+        return evict(userRepository.save(user));
+    }
+
+    // Hit/miss counts across both principal lookups
+    public CacheStats getPrincipalCacheStats() {
+        return usersByEmail.stats().plus(usersBySupabaseId.stats());
+    }
+
+    public long getPrincipalCacheSize() {
+        return usersByEmail.estimatedSize() + usersBySupabaseId.estimatedSize();
+    }
+
+    private User evict(User user) {
+        if (user.getEmail() != null) {
+            usersByEmail.invalidate(user.getEmail());
+        }
+        if (user.getSupabaseUserId() != null) {
+            usersBySupabaseId.invalidate(user.getSupabaseUserId());
+        }
+        return user;
     }
 }
@@ -0,0 +1,35 @@
+package com.example.demo.websocket;
+
+import com.example.demo.model.Attendee;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Snapshot of the attendee fields pushed to WebSocket clients.
+ */
+public record AttendeePayload(UUID id, String name, String email) implements JsonSerializable {
+
+    public static AttendeePayload from(Attendee attendee) {
+        return new AttendeePayload(attendee.getId(), attendee.getName(), attendee.getEmail());
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        FramePayloads.writeUuid(gen, "id", id);
+        gen.writeStringField("name", name);
+        gen.writeStringField("email", email);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+}
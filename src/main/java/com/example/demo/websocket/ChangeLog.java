@@ -0,0 +1,90 @@
+package com.example.demo.websocket;
+
+import org.springframework.web.socket.TextMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Fixed-size ring of the most recent sequenced frames, used to replay what a client
+ * missed while disconnected. Not thread-safe; the handler guards it with its own lock,
+ * except for {@link #publishedSeq()}, which may be read without it.
+ */
+final class ChangeLog {
+
+    private record Entry(long seq, String eventId, TextMessage frame) {
+    }
+
+    private final Entry[] entries;
+    private long latestSeq;
+    // Appended frames still being handed to their recipients
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    private volatile long publishedSeq;
+
+    ChangeLog(int capacity) {
+        this.entries = new Entry[Math.max(1, capacity)];
+    }
+
+    long nextSeq() {
+        return latestSeq + 1;
+    }
+
+    long latestSeq() {
+        return latestSeq;
+    }
+
+    // Oldest sequence number still held, or latestSeq + 1 when empty
+    long oldestSeq() {
+        return Math.max(1, latestSeq - entries.length + 1);
+    }
+
+    /**
+     * @param eventId owning event, or null for frames delivered to every session
+     */
+    void append(long seq, String eventId, TextMessage frame) {
+        entries[(int) (seq % entries.length)] = new Entry(seq, eventId, frame);
+        latestSeq = seq;
+        inFlight.add(seq);
+    }
+
+    // Called once the frame has been handed to every recipient
+    void published(long seq) {
+        inFlight.remove(seq);
+        publishedSeq = inFlight.isEmpty() ? latestSeq : inFlight.first() - 1;
+    }
+
+    /**
+     * Every frame up to this one has been handed to all its recipients. Only grows, so a
+     * stale read without the lock is merely conservative.
+     */
+    long publishedSeq() {
+        return publishedSeq;
+    }
+
+    /**
+     * True when every frame after {@code lastSeq} is still held.
+     */
+    boolean canReplayFrom(long lastSeq) {
+        return lastSeq >= oldestSeq() - 1 && lastSeq <= latestSeq;
+    }
+
+    // Frames after lastSeq that are global or belong to one of the given events, oldest first
+    List<TextMessage> framesAfter(long lastSeq, Set<String> eventIds) {
+        return framesBetween(lastSeq, latestSeq, eventIds);
+    }
+
+    // Like framesAfter, but only up to and including toSeq
+    List<TextMessage> framesBetween(long lastSeq, long toSeq, Set<String> eventIds) {
+        List<TextMessage> frames = new ArrayList<>();
+        for (long seq = lastSeq + 1; seq <= toSeq; seq++) {
+            Entry entry = entries[(int) (seq % entries.length)];
+            if (entry != null && entry.seq() == seq
+                    && (entry.eventId() == null || eventIds.contains(entry.eventId()))) {
+                frames.add(entry.frame());
+            }
+        }
+        return frames;
+    }
+}
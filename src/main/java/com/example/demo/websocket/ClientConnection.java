@@ -0,0 +1,164 @@
+package com.example.demo.websocket;
+
+import com.example.demo.config.WebSocketProperties;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A connected WebSocket client: its event subscriptions plus a bounded outbound queue.
+ * <p>
+ * Frames are only ever enqueued by callers; a single drain task at a time, running on the
+ * shared sender executor, writes them to the session. That keeps request threads off the
+ * network and serialises access to {@link WebSocketSession#sendMessage}, which is not
+ * thread-safe.
+ */
+class ClientConnection {
+
+    private final WebSocketSession session;
+    private final Set<String> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Deque<TextMessage> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final WebSocketProperties.Send limits;
+    private final Executor sendExecutor;
+    private final SendMetrics metrics;
+    private volatile long sendStartTime;
+    // Highest sequenced frame enqueued or replayed; guarded by this connection's monitor,
+    // which the handler holds while it delivers sequenced frames
+    private long lastSeq;
+
+    ClientConnection(WebSocketSession session, WebSocketProperties.Send limits, Executor sendExecutor,
+                     SendMetrics metrics) {
+        this.session = session;
+        this.limits = limits;
+        this.sendExecutor = sendExecutor;
+        this.metrics = metrics;
+    }
+
+    WebSocketSession getSession() { return session; }
+
+    Set<String> getSubscriptions() { return subscriptions; }
+
+    long getLastSeq() { return lastSeq; }
+
+    void setLastSeq(long lastSeq) { this.lastSeq = lastSeq; }
+
+    boolean isOpen() {
+        return !closed.get() && session.isOpen();
+    }
+
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    void enqueue(TextMessage frame) {
+        if (!isOpen()) {
+            return;
+        }
+
+        long start = sendStartTime;
+        if (start > 0 && System.currentTimeMillis() - start > limits.getSendTimeLimitMs()) {
+            // The drainer is stuck in a blocking write; dropping frames would not unblock it
+            disconnectSlowConsumer();
+            return;
+        }
+
+        queue.addLast(frame);
+        metrics.queuedFrames.incrementAndGet();
+        bufferedBytes.addAndGet(frame.getPayloadLength());
+        enforceBufferLimit();
+        scheduleDrain();
+    }
+
+    private void enforceBufferLimit() {
+        while (bufferedBytes.get() > limits.getBufferSizeLimit()) {
+            if (limits.getOverflowPolicy() == WebSocketProperties.Send.OverflowPolicy.DISCONNECT) {
+                disconnectSlowConsumer();
+                return;
+            }
+            TextMessage oldest = queue.pollFirst();
+            if (oldest == null) {
+                return;
+            }
+            dequeued(oldest);
+            metrics.droppedFrames.incrementAndGet();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (RuntimeException e) {
+                draining.set(false);
+                close(CloseStatus.SERVER_ERROR);
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            TextMessage frame = queue.pollFirst();
+            if (frame == null) {
+                draining.set(false);
+                // A frame may have been enqueued after the poll but before the flag was cleared
+                if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+
+            dequeued(frame);
+            if (!isOpen()) {
+                continue;
+            }
+            try {
+                sendStartTime = System.currentTimeMillis();
+                session.sendMessage(frame);
+                metrics.framesSent.incrementAndGet();
+                metrics.bytesSent.addAndGet(frame.getPayloadLength());
+            } catch (Exception e) {
+                close(CloseStatus.SESSION_NOT_RELIABLE);
+            } finally {
+                sendStartTime = 0;
+            }
+        }
+    }
+
+    private void dequeued(TextMessage frame) {
+        bufferedBytes.addAndGet(-frame.getPayloadLength());
+        metrics.queuedFrames.decrementAndGet();
+    }
+
+    private void disconnectSlowConsumer() {
+        if (!closed.get()) {
+            metrics.slowConsumerDisconnects.incrementAndGet();
+        }
+        close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    void close(CloseStatus status) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        TextMessage frame;
+        while ((frame = queue.pollFirst()) != null) {
+            dequeued(frame);
+        }
+        try {
+            session.close(status);
+        } catch (Exception e) {
+            // already closed by the peer
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.websocket;
+
+import com.example.demo.model.Event;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Snapshot of the event fields pushed to WebSocket clients.
+ */
+public record EventPayload(UUID id, String name, LocalDate date, String description, String location)
+        implements JsonSerializable {
+
+    public static EventPayload from(Event event) {
+        return new EventPayload(event.getId(), event.getName(), event.getDate(),
+                event.getDescription(), event.getLocation());
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        FramePayloads.writeUuid(gen, "id", id);
+        gen.writeStringField("name", name);
+        // ISO-8601, matching the JavaTimeModule output clients already parse
+        gen.writeStringField("date", date != null ? date.toString() : null);
+        gen.writeStringField("description", description);
+        gen.writeStringField("location", location);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -1,54 +1,361 @@
 package com.example.demo.websocket;
 
+import com.example.demo.config.WebSocketProperties;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class EventProgressWebSocketHandler extends TextWebSocketHandler {
 
-    private final Set<WebSocketSession> sessions = ConcurrentHashMap.newKeySet();
+    // session id -> connection with its subscriptions and outbound queue
+    private final Map<String, ClientConnection> connections = new ConcurrentHashMap<>();
+    // eventId -> connections subscribed to that event's task/attendee traffic
+    private final Map<String, Set<ClientConnection>> eventSubscribers = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper;
+    private final WebSocketProperties properties;
+    private final Executor sendExecutor;
+    private final SendMetrics sendMetrics = new SendMetrics();
+    private final TaskUpdateCoalescer taskUpdateCoalescer;
+    // Guarded by itself; every sequenced broadcast and every subscribe/resume holds this lock
+    private final ChangeLog changeLog;
+    // Identifies this process's sequence space so clients notice a server restart
+    private final String streamEpoch = UUID.randomUUID().toString();
+    // Time to encode a broadcast and enqueue it for every recipient (the network write happens later)
+    private final Timer eventFanOut;
+    private final Timer globalFanOut;
     
-    public EventProgressWebSocketHandler() {
+    public EventProgressWebSocketHandler(WebSocketProperties properties,
+                                         @Qualifier("webSocketSendExecutor") Executor sendExecutor,
+                                         @Qualifier("webSocketBatchScheduler") TaskScheduler batchScheduler,
+                                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sendExecutor = sendExecutor;
+        long windowMs = properties.getBatch().getWindowMs();
+        this.taskUpdateCoalescer = windowMs > 0
+                ? new TaskUpdateCoalescer(batchScheduler, Duration.ofMillis(windowMs), this::broadcastTaskBatch)
+                : null;
+        this.changeLog = new ChangeLog(properties.getReplay().getCapacity());
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
         this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         this.objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+        this.eventFanOut = fanOutTimer(meterRegistry, "event");
+        this.globalFanOut = fanOutTimer(meterRegistry, "all");
+        Gauge.builder("websocket.sessions.active", connections, Map::size)
+                .description("Open WebSocket sessions").register(meterRegistry);
+        Gauge.builder("websocket.events.subscribed", eventSubscribers, Map::size)
+                .description("Events with at least one subscribed session").register(meterRegistry);
+        Gauge.builder("websocket.frames.queued", sendMetrics.queuedFrames, AtomicLong::get)
+                .description("Frames waiting in session outbound queues").register(meterRegistry);
+        counter(meterRegistry, "websocket.frames.sent", sendMetrics.framesSent, null);
+        counter(meterRegistry, "websocket.frames.dropped", sendMetrics.droppedFrames, null);
+        counter(meterRegistry, "websocket.bytes.sent", sendMetrics.bytesSent, "bytes");
+        counter(meterRegistry, "websocket.sessions.evicted", sendMetrics.evictedSessions, null);
+        counter(meterRegistry, "websocket.sessions.slow.disconnects", sendMetrics.slowConsumerDisconnects, null);
+    }
+
+    private static Timer fanOutTimer(MeterRegistry meterRegistry, String scope) {
+        return Timer.builder("websocket.broadcast")
+                .description("Encode and enqueue one broadcast for all its recipients")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    private static void counter(MeterRegistry meterRegistry, String name, AtomicLong value, String baseUnit) {
+        FunctionCounter.builder(name, value, AtomicLong::get).baseUnit(baseUnit).register(meterRegistry);
     }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
-        sessions.add(session);
+        ClientConnection connection = new ClientConnection(session, properties.getSend(), sendExecutor, sendMetrics);
+        connections.put(session.getId(), connection);
+
+        // Clients may subscribe up front with /ws/events?eventIds=a,b[&lastSeq=n&epoch=e]
+        Map<String, List<String>> query = queryParams(session.getUri());
+        List<String> initialEventIds = eventIdsFrom(query.get("eventIds"));
+        String lastSeq = firstValue(query.get("lastSeq"));
+        if (lastSeq != null) {
+            try {
+                resume(connection, initialEventIds, Long.parseLong(lastSeq), firstValue(query.get("epoch")));
+            } catch (NumberFormatException e) {
+                sendError(connection, "Invalid lastSeq");
+            }
+        } else if (!initialEventIds.isEmpty()) {
+            subscribe(connection, initialEventIds);
+        }
     }
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
-        sessions.remove(session);
+        removeConnection(connections.get(session.getId()));
     }
 
     @Override
     public void handleTransportError(WebSocketSession session, Throwable exception) {
-        sessions.remove(session);
+        ClientConnection connection = connections.get(session.getId());
+        if (connection != null) {
+            connection.close(CloseStatus.SERVER_ERROR);
+        }
+        removeConnection(connection);
+    }
+
+    // Client -> server messages: {"type":"SUBSCRIBE"|"UNSUBSCRIBE","eventIds":["..."]}
+    // and {"type":"RESUME","eventIds":["..."],"lastSeq":n,"epoch":"..."} after a reconnect
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        ClientConnection connection = connections.get(session.getId());
+        if (connection == null) {
+            return;
+        }
+
+        JsonNode request;
+        try {
+            request = objectMapper.readTree(message.getPayload());
+        } catch (Exception e) {
+            sendError(connection, "Malformed message");
+            return;
+        }
+
+        String type = request.path("type").asText();
+        List<String> eventIds = new ArrayList<>();
+        request.path("eventIds").forEach(node -> eventIds.add(node.asText()));
+        if (request.hasNonNull("eventId")) {
+            eventIds.add(request.get("eventId").asText());
+        }
+
+        switch (type) {
+            case "SUBSCRIBE":
+                subscribe(connection, eventIds);
+                break;
+            case "UNSUBSCRIBE":
+                unsubscribe(connection, eventIds);
+                break;
+            case "RESUME":
+                if (!request.path("lastSeq").canConvertToLong()) {
+                    sendError(connection, "RESUME requires lastSeq");
+                    break;
+                }
+                resume(connection, eventIds, request.get("lastSeq").asLong(),
+                        request.hasNonNull("epoch") ? request.get("epoch").asText() : null);
+                break;
+            default:
+                sendError(connection, "Unknown message type: " + type);
+        }
+    }
+
+    private void subscribe(ClientConnection connection, List<String> eventIds) {
+        synchronized (connection) {
+            synchronized (changeLog) {
+                // Frames of the existing subscriptions still fanning out go first; the new events are live after the ack
+                catchUp(connection, changeLog.latestSeq());
+                addSubscriptions(connection, eventIds);
+                sendSubscriptionState(connection, "SUBSCRIBED", connection.getSubscriptions());
+            }
+        }
+    }
+
+    /**
+     * Subscribes and replays every frame after {@code lastSeq} for those events. Holding the
+     * connection's monitor and the change log lock makes the replay and the switch to live
+     * delivery one atomic cut; broadcasts still fanning out skip the frames replayed here.
+     */
+    private void resume(ClientConnection connection, List<String> eventIds, long lastSeq, String epoch) {
+        synchronized (connection) {
+            synchronized (changeLog) {
+                addSubscriptions(connection, eventIds);
+                connection.setLastSeq(changeLog.latestSeq());
+
+                boolean sameStream = epoch == null || streamEpoch.equals(epoch);
+                List<TextMessage> missed = sameStream && changeLog.canReplayFrom(lastSeq)
+                        ? changeLog.framesAfter(lastSeq, connection.getSubscriptions())
+                        : null;
+                // A replay that would overflow the session buffer is no cheaper than a resync
+                if (missed != null && replayBytes(missed) > properties.getSend().getBufferSizeLimit()) {
+                    missed = null;
+                }
+
+                if (missed == null) {
+                    sendResyncRequired(connection, lastSeq);
+                    return;
+                }
+
+                for (TextMessage frame : missed) {
+                    send(connection, frame);
+                }
+                Map<String, Object> resumed = new HashMap<>();
+                resumed.put("type", "RESUMED");
+                resumed.put("replayed", missed.size());
+                resumed.put("latestSeq", changeLog.latestSeq());
+                resumed.put("epoch", streamEpoch);
+                resumed.put("eventIds", new ArrayList<>(connection.getSubscriptions()));
+                sendToConnection(connection, resumed);
+            }
+        }
+    }
+
+    // Call holding the change log lock
+    private void sendResyncRequired(ClientConnection connection, long lastSeq) {
+        Map<String, Object> resync = new HashMap<>();
+        resync.put("type", "RESYNC_REQUIRED");
+        resync.put("lastSeq", lastSeq);
+        resync.put("oldestSeq", changeLog.oldestSeq());
+        resync.put("latestSeq", changeLog.latestSeq());
+        resync.put("epoch", streamEpoch);
+        resync.put("eventIds", new ArrayList<>(connection.getSubscriptions()));
+        sendToConnection(connection, resync);
+    }
+
+    private void addSubscriptions(ClientConnection connection, List<String> eventIds) {
+        Set<String> subscriptions = connection.getSubscriptions();
+        for (String eventId : eventIds) {
+            String key = canonicalId(eventId);
+            eventSubscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(connection);
+            subscriptions.add(key);
+        }
+    }
+
+    private static long replayBytes(List<TextMessage> frames) {
+        long bytes = 0;
+        for (TextMessage frame : frames) {
+            bytes += frame.getPayloadLength();
+        }
+        return bytes;
+    }
+
+    private void unsubscribe(ClientConnection connection, List<String> eventIds) {
+        synchronized (changeLog) {
+            Set<String> subscriptions = connection.getSubscriptions();
+            for (String eventId : eventIds) {
+                String key = canonicalId(eventId);
+                removeSubscriber(key, connection);
+                subscriptions.remove(key);
+            }
+            sendSubscriptionState(connection, "UNSUBSCRIBED", subscriptions);
+        }
+    }
+
+    // Returns whether this call removed it, so concurrent removals are counted once
+    private boolean removeConnection(ClientConnection connection) {
+        if (connection == null) {
+            return false;
+        }
+        boolean removed = connections.remove(connection.getSession().getId(), connection);
+        for (String eventId : connection.getSubscriptions()) {
+            removeSubscriber(eventId, connection);
+        }
+        return removed;
+    }
+
+    private void removeSubscriber(String eventId, ClientConnection connection) {
+        // Drop the index entry once the last subscriber leaves so the map tracks live events only
+        eventSubscribers.computeIfPresent(eventId, (key, subscribers) -> {
+            subscribers.remove(connection);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private void sendSubscriptionState(ClientConnection connection, String type, Set<String> subscriptions) {
+        Map<String, Object> ack = new HashMap<>();
+        ack.put("type", type);
+        ack.put("eventIds", new ArrayList<>(subscriptions));
+        // Clients keep latestSeq/epoch and send them back in RESUME after a reconnect
+        ack.put("latestSeq", changeLog.latestSeq());
+        ack.put("epoch", streamEpoch);
+        sendToConnection(connection, ack);
+    }
+
+    private void sendError(ClientConnection connection, String error) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "ERROR");
+        message.put("error", error);
+        sendToConnection(connection, message);
+    }
+
+    private static Map<String, List<String>> queryParams(URI uri) {
+        if (uri == null) {
+            return Collections.emptyMap();
+        }
+        return UriComponentsBuilder.fromUri(uri).build().getQueryParams();
+    }
+
+    private static String firstValue(List<String> values) {
+        return values != null && !values.isEmpty() ? values.get(0) : null;
+    }
+
+    private static List<String> eventIdsFrom(List<String> values) {
+        List<String> eventIds = new ArrayList<>();
+        if (values != null) {
+            for (String value : values) {
+                for (String eventId : value.split(",")) {
+                    if (!eventId.isBlank()) {
+                        eventIds.add(eventId.trim());
+                    }
+                }
+            }
+        }
+        return eventIds;
+    }
+
+    // Controllers pass raw path variables, so canonicalise UUIDs to match regardless of case
+    private static String canonicalId(String id) {
+        try {
+            return UUID.fromString(id.trim()).toString();
+        } catch (IllegalArgumentException e) {
+            return id.trim();
+        }
     }
 
     // Task-related broadcasts
     public void broadcastTaskUpdate(String eventId, Object taskData) {
+        String key = canonicalId(eventId);
+        // Snapshot now: the entity may change or lose its session before the window closes
+        Object payload = FramePayloads.of(taskData);
+        Object taskId = taskIdOf(payload);
+        if (taskUpdateCoalescer != null && taskId != null) {
+            taskUpdateCoalescer.add(key, taskId, payload);
+            return;
+        }
+        sendTaskUpdate(key, payload);
+    }
+
+    private void sendTaskUpdate(String eventId, Object taskData) {
         Map<String, Object> message = new HashMap<>();
         message.put("type", "TASK_UPDATE");
         message.put("eventId", eventId);
         message.put("data", taskData);
-        broadcastMessage(message);
+        broadcastToEvent(eventId, message);
     }
 
     public void broadcastTaskCreation(String eventId, Object taskData) {
@@ -56,15 +363,77 @@ public class EventProgressWebSocketHandler extends TextWebSocketHandler {
         message.put("type", "TASK_CREATE");
         message.put("eventId", eventId);
         message.put("data", taskData);
-        broadcastMessage(message);
+        broadcastToEvent(eventId, message);
     }
 
     public void broadcastTaskDeletion(String eventId, Object taskId) {
+        if (taskUpdateCoalescer != null && taskId != null) {
+            taskUpdateCoalescer.discard(canonicalId(eventId), canonicalId(taskId.toString()));
+        }
         Map<String, Object> message = new HashMap<>();
         message.put("type", "TASK_DELETE");
         message.put("eventId", eventId);
         message.put("taskId", taskId);
-        broadcastMessage(message);
+        broadcastToEvent(eventId, message);
+    }
+
+    // One frame for a bulk task operation; changes holds the fields set on every listed task
+    public void broadcastTaskBulkUpdate(String eventId, String operation, List<?> taskIds,
+                                        Map<String, Object> changes, long eventVersion) {
+        String key = canonicalId(eventId);
+        if (taskUpdateCoalescer != null) {
+            if ("DELETE".equals(operation)) {
+                for (Object taskId : taskIds) {
+                    taskUpdateCoalescer.discard(key, canonicalId(taskId.toString()));
+                }
+            }
+            // Earlier single updates must reach clients before the bulk change overrides them
+            taskUpdateCoalescer.flush(key);
+        }
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "TASK_BULK_UPDATE");
+        message.put("eventId", eventId);
+        message.put("operation", operation);
+        message.put("taskIds", taskIds);
+        message.put("changes", changes);
+        message.put("count", taskIds.size());
+        message.put("eventVersion", eventVersion);
+        broadcastToEvent(eventId, message);
+    }
+
+    // TASK_DUE or TASK_OVERDUE for the event's tasks whose deadline day has started or ended
+    public void broadcastTaskDeadlines(String eventId, String type, LocalDate deadline, List<?> taskIds) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", type);
+        message.put("eventId", eventId);
+        message.put("deadline", deadline.toString());
+        message.put("taskIds", taskIds);
+        message.put("count", taskIds.size());
+        broadcastToEvent(eventId, message);
+    }
+
+    // A window holding a single update goes out as a plain TASK_UPDATE for existing clients
+    private void broadcastTaskBatch(String eventId, List<Object> tasks) {
+        if (tasks.size() == 1) {
+            sendTaskUpdate(eventId, tasks.get(0));
+            return;
+        }
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "TASK_BATCH");
+        message.put("eventId", eventId);
+        message.put("tasks", tasks);
+        message.put("count", tasks.size());
+        broadcastToEvent(eventId, message);
+    }
+
+    private static Object taskIdOf(Object task) {
+        if (task instanceof TaskPayload payload) {
+            return payload.id() != null ? payload.id().toString() : null;
+        }
+        if (task instanceof Map<?, ?> map && map.get("id") != null) {
+            return canonicalId(map.get("id").toString());
+        }
+        return null;
     }
 
     // Event-related broadcasts
@@ -95,7 +464,7 @@ public class EventProgressWebSocketHandler extends TextWebSocketHandler {
         message.put("type", "ATTENDEE_UPDATE");
         message.put("eventId", eventId);
         message.put("data", attendeeData);
-        broadcastMessage(message);
+        broadcastToEvent(eventId, message);
     }
 
     public void broadcastAttendeeCreation(String eventId, Object attendeeData) {
@@ -103,7 +472,7 @@ public class EventProgressWebSocketHandler extends TextWebSocketHandler {
         message.put("type", "ATTENDEE_CREATE");
         message.put("eventId", eventId);
         message.put("data", attendeeData);
-        broadcastMessage(message);
+        broadcastToEvent(eventId, message);
     }
 
     public void broadcastAttendeeDeletion(String eventId, Object attendeeId) {
@@ -111,7 +480,29 @@ public class EventProgressWebSocketHandler extends TextWebSocketHandler {
         message.put("type", "ATTENDEE_DELETE");
         message.put("eventId", eventId);
         message.put("attendeeId", attendeeId);
-        broadcastMessage(message);
+        broadcastToEvent(eventId, message);
+    }
+
+    // One summary frame per bulk import instead of an ATTENDEE_CREATE per row; clients refetch
+    // the new rows through the delta sync feed
+    public void broadcastAttendeeImport(String eventId, int imported, int duplicates, int invalid, long eventVersion) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "ATTENDEE_IMPORT");
+        message.put("eventId", eventId);
+        message.put("imported", imported);
+        message.put("duplicates", duplicates);
+        message.put("invalid", invalid);
+        message.put("eventVersion", eventVersion);
+        broadcastToEvent(eventId, message);
+    }
+
+    // Compact progress counters for an event, pushed at most once per batch window
+    public void broadcastProgress(String eventId, Object summary) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "PROGRESS");
+        message.put("eventId", eventId);
+        message.put("data", summary);
+        broadcastTransientToEvent(eventId, message);
     }
 
     // Utility method for testing WebSocket connectivity
@@ -119,13 +510,13 @@ public class EventProgressWebSocketHandler extends TextWebSocketHandler {
         Map<String, Object> pingMessage = new HashMap<>();
         pingMessage.put("type", "PING");
         pingMessage.put("timestamp", System.currentTimeMillis());
-        pingMessage.put("activeConnections", sessions.size());
-        broadcastMessage(pingMessage);
+        pingMessage.put("activeConnections", connections.size());
+        broadcastTransient(pingMessage);
     }
 
     // Get current connection count
     public int getActiveConnectionCount() {
-        return sessions.size();
+        return connections.size();
     }
 
     // Method to broadcast a simple status update
@@ -135,38 +526,222 @@ public class EventProgressWebSocketHandler extends TextWebSocketHandler {
         statusMessage.put("status", status);
         statusMessage.put("message", message);
         statusMessage.put("timestamp", System.currentTimeMillis());
-        statusMessage.put("activeConnections", sessions.size());
-        broadcastMessage(statusMessage);
+        statusMessage.put("activeConnections", connections.size());
+        broadcastTransient(statusMessage);
     }
 
-    private void broadcastMessage(Map<String, Object> message) {
-        String messageJson = createMessageJson(message);
-        
-        sessions.removeIf(session -> {
-            try {
-                if (session.isOpen()) {
-                    session.sendMessage(new TextMessage(messageJson));
-                    return false;
-                } else {
-                    return true;
+    // Get number of sessions subscribed to an event
+    public int getSubscriberCount(String eventId) {
+        Set<ClientConnection> subscribers = eventSubscribers.get(canonicalId(eventId));
+        return subscribers != null ? subscribers.size() : 0;
+    }
+
+    // Get number of events with at least one subscriber
+    public int getSubscribedEventCount() {
+        return eventSubscribers.size();
+    }
+
+    // Sequence number of the most recent recorded broadcast
+    public long getLatestSequence() {
+        synchronized (changeLog) {
+            return changeLog.latestSeq();
+        }
+    }
+
+    // Frames currently waiting in session outbound queues
+    public long getQueuedFrameCount() {
+        return sendMetrics.queuedFrames.get();
+    }
+
+    // Frames discarded by the drop-oldest overflow policy
+    public long getDroppedFrameCount() {
+        return sendMetrics.droppedFrames.get();
+    }
+
+    // Sessions closed for exceeding the buffer or send time limits
+    public long getSlowConsumerDisconnectCount() {
+        return sendMetrics.slowConsumerDisconnects.get();
+    }
+
+    // Structured view of the counters behind the websocket.* meters
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("activeConnections", connections.size());
+        status.put("subscribedEvents", eventSubscribers.size());
+        status.put("latestSeq", getLatestSequence());
+        status.put("epoch", streamEpoch);
+        status.put("queuedFrames", sendMetrics.queuedFrames.get());
+        status.put("framesSent", sendMetrics.framesSent.get());
+        status.put("bytesSent", sendMetrics.bytesSent.get());
+        status.put("droppedFrames", sendMetrics.droppedFrames.get());
+        status.put("evictedSessions", sendMetrics.evictedSessions.get());
+        status.put("slowConsumerDisconnects", sendMetrics.slowConsumerDisconnects.get());
+        status.put("eventBroadcasts", timerSummary(eventFanOut));
+        status.put("globalBroadcasts", timerSummary(globalFanOut));
+        return status;
+    }
+
+    private static Map<String, Object> timerSummary(Timer timer) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", timer.count());
+        summary.put("meanMs", timer.mean(TimeUnit.MILLISECONDS));
+        summary.put("maxMs", timer.max(TimeUnit.MILLISECONDS));
+        return summary;
+    }
+
+    // Recorded even without subscribers so a client resuming later can still replay it
+    private void broadcastToEvent(String eventId, Map<String, Object> message) {
+        String key = canonicalId(eventId);
+        long start = System.nanoTime();
+        SequencedFrame sequenced = record(key, message);
+        try {
+            Set<ClientConnection> subscribers = eventSubscribers.get(key);
+            if (subscribers != null) {
+                for (ClientConnection connection : subscribers) {
+                    deliver(connection, sequenced);
                 }
-            } catch (Exception e) {
-                return true;
             }
-        });
+        } finally {
+            published(sequenced);
+        }
+        eventFanOut.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private record SequencedFrame(long seq, TextMessage frame) {
+    }
+
+    // Encodes once outside the lock, then assigns the next sequence number and keeps the frame for replay
+    private SequencedFrame record(String eventId, Map<String, Object> message) {
+        byte[] body = createMessageBytes(message);
+        synchronized (changeLog) {
+            long seq = changeLog.nextSeq();
+            TextMessage frame = new TextMessage(withSeq(seq, body));
+            changeLog.append(seq, eventId, frame);
+            return new SequencedFrame(seq, frame);
+        }
     }
 
-    private String createMessageJson(Map<String, Object> message) {
+    private void published(SequencedFrame sequenced) {
+        synchronized (changeLog) {
+            changeLog.published(sequenced.seq());
+        }
+    }
+
+    // Adds "seq" as the first field of the encoded JSON object, a copy instead of a second encode
+    private static byte[] withSeq(long seq, byte[] object) {
+        byte[] field = ("{\"seq\":" + seq + (object.length > 2 ? "," : "")).getBytes(StandardCharsets.US_ASCII);
+        byte[] frame = new byte[field.length + object.length - 1];
+        System.arraycopy(field, 0, frame, 0, field.length);
+        System.arraycopy(object, 1, frame, field.length, object.length - 1);
+        return frame;
+    }
+
+    /**
+     * Enqueues a sequenced frame so that each connection sees frames in sequence order, although
+     * broadcasts fan out concurrently. Frames at or below the connection's last seq were already
+     * replayed and are skipped; earlier frames whose broadcasts are still fanning out are taken
+     * from the change log first, and their broadcasts then skip this connection.
+     */
+    private void deliver(ClientConnection connection, SequencedFrame sequenced) {
+        long seq = sequenced.seq();
+        synchronized (connection) {
+            if (seq <= connection.getLastSeq()) {
+                return;
+            }
+            if (seq - 1 > Math.max(connection.getLastSeq(), changeLog.publishedSeq())) {
+                synchronized (changeLog) {
+                    catchUp(connection, seq - 1);
+                }
+            }
+            send(connection, sequenced.frame());
+            connection.setLastSeq(seq);
+        }
+    }
+
+    // Enqueues the connection's frames up to toSeq that it has not been handed yet. Call holding
+    // the connection's monitor and the change log lock
+    private void catchUp(ClientConnection connection, long toSeq) {
+        // Broadcasts up to publishedSeq are done, so the connection already has their frames
+        long from = Math.max(connection.getLastSeq(), changeLog.publishedSeq());
+        if (from < toSeq) {
+            if (changeLog.canReplayFrom(from)) {
+                for (TextMessage frame : changeLog.framesBetween(from, toSeq, connection.getSubscriptions())) {
+                    send(connection, frame);
+                }
+            } else {
+                sendResyncRequired(connection, from);
+            }
+        }
+        connection.setLastSeq(Math.max(connection.getLastSeq(), toSeq));
+    }
+
+    private void sendToConnection(ClientConnection connection, Map<String, Object> message) {
+        send(connection, encode(message));
+    }
+
+    // Only enqueues; the connection's drain task performs the network write
+    private void send(ClientConnection connection, TextMessage frame) {
+        if (connection.isOpen()) {
+            connection.enqueue(frame);
+        } else if (removeConnection(connection)) {
+            sendMetrics.evictedSessions.incrementAndGet();
+        }
+    }
+
+    private void broadcastMessage(Map<String, Object> message) {
+        long start = System.nanoTime();
+        SequencedFrame sequenced = record(null, message);
         try {
-            Map<String, Object> safeMessage = new HashMap<>(message);
-            
-            Object data = safeMessage.get("data");
+            for (ClientConnection connection : connections.values()) {
+                deliver(connection, sequenced);
+            }
+        } finally {
+            published(sequenced);
+        }
+        globalFanOut.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // Pings and status notices carry no state, so they are neither sequenced nor replayed
+    private void broadcastTransient(Map<String, Object> message) {
+        long start = System.nanoTime();
+        TextMessage frame = encode(message);
+        for (ClientConnection connection : connections.values()) {
+            send(connection, frame);
+        }
+        globalFanOut.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // Derived state superseded by the next frame: sent to subscribers but not sequenced or
+    // replayed; a resuming client reads /summary instead
+    private void broadcastTransientToEvent(String eventId, Map<String, Object> message) {
+        Set<ClientConnection> subscribers = eventSubscribers.get(canonicalId(eventId));
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        TextMessage frame = encode(message);
+        for (ClientConnection connection : subscribers) {
+            send(connection, frame);
+        }
+        eventFanOut.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Encodes a message once into a UTF-8 frame. {@link TextMessage} is immutable, so the
+     * same instance is handed to every recipient instead of re-encoding per session.
+     */
+    TextMessage encode(Map<String, Object> message) {
+        return new TextMessage(createMessageBytes(message));
+    }
+
+    private byte[] createMessageBytes(Map<String, Object> message) {
+        try {
+            Object data = message.get("data");
             if (data != null) {
-                Object simplifiedData = createSimplifiedEntity(data);
-                safeMessage.put("data", simplifiedData);
+                message.put("data", FramePayloads.of(data));
             }
             
-            return objectMapper.writeValueAsString(safeMessage);
+            return objectMapper.writeValueAsBytes(message);
         } catch (Exception e) {
             Map<String, Object> errorMessage = new HashMap<>();
             errorMessage.put("type", message.get("type"));
@@ -180,54 +755,11 @@ public class EventProgressWebSocketHandler extends TextWebSocketHandler {
             if (attendeeId != null) errorMessage.put("attendeeId", attendeeId);
             
             try {
-                return objectMapper.writeValueAsString(errorMessage);
+                return objectMapper.writeValueAsBytes(errorMessage);
             } catch (Exception ex) {
                 return String.format("{\"error\":\"Serialization failure\",\"type\":\"%s\",\"timestamp\":%d}", 
-                    message.get("type"), System.currentTimeMillis());
+                    message.get("type"), System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8);
             }
         }
     }
-    
-    private Object createSimplifiedEntity(Object entity) {
-        if (entity == null || entity instanceof String || entity instanceof Number || entity instanceof Boolean) {
-            return entity;
-        }
-        
-        try {
-            Map<String, Object> simplified = new HashMap<>();
-            String entityType = entity.getClass().getSimpleName();
-            
-            switch (entityType) {
-                case "Task":
-                    simplified.put("id", entity.getClass().getMethod("getId").invoke(entity));
-                    simplified.put("title", entity.getClass().getMethod("getTitle").invoke(entity));
-                    simplified.put("description", entity.getClass().getMethod("getDescription").invoke(entity));
-                    simplified.put("completed", entity.getClass().getMethod("isCompleted").invoke(entity));
-                    break;
-                case "Event":
-                    simplified.put("id", entity.getClass().getMethod("getId").invoke(entity));
-                    simplified.put("name", entity.getClass().getMethod("getName").invoke(entity));
-                    simplified.put("date", entity.getClass().getMethod("getDate").invoke(entity));
-                    simplified.put("description", entity.getClass().getMethod("getDescription").invoke(entity));
-                    simplified.put("location", entity.getClass().getMethod("getLocation").invoke(entity));
-                    break;
-                case "Attendee":
-                    simplified.put("id", entity.getClass().getMethod("getId").invoke(entity));
-                    simplified.put("name", entity.getClass().getMethod("getName").invoke(entity));
-                    simplified.put("email", entity.getClass().getMethod("getEmail").invoke(entity));
-                    break;
-                default:
-                    simplified.put("updated", true);
-                    simplified.put("timestamp", System.currentTimeMillis());
-                    simplified.put("entityType", entityType);
-            }
-            
-            return simplified;
-        } catch (Exception e) {
-            Map<String, Object> fallback = new HashMap<>();
-            fallback.put("updated", true);
-            fallback.put("timestamp", System.currentTimeMillis());
-            return fallback;
-        }
-    }
 }
@@ -0,0 +1,50 @@
+package com.example.demo.websocket;
+
+import com.example.demo.model.Attendee;
+import com.example.demo.model.Event;
+import com.example.demo.model.Task;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maps entities handed to the broadcast API onto their typed payload writers.
+ */
+final class FramePayloads {
+
+    private FramePayloads() {
+    }
+
+    static Object of(Object entity) {
+        if (entity == null || entity instanceof String || entity instanceof Number
+                || entity instanceof Boolean || entity instanceof Map) {
+            return entity;
+        }
+        if (entity instanceof Task task) {
+            return TaskPayload.from(task);
+        }
+        if (entity instanceof Event event) {
+            return EventPayload.from(event);
+        }
+        if (entity instanceof Attendee attendee) {
+            return AttendeePayload.from(attendee);
+        }
+        // Payload records and DTO records are plain data and serialize as they are
+        if (entity instanceof Record) {
+            return entity;
+        }
+
+        Map<String, Object> fallback = new HashMap<>();
+        fallback.put("updated", true);
+        fallback.put("timestamp", System.currentTimeMillis());
+        fallback.put("entityType", entity.getClass().getSimpleName());
+        return fallback;
+    }
+
+    static void writeUuid(JsonGenerator gen, String field, UUID value) throws IOException {
+        gen.writeStringField(field, value != null ? value.toString() : null);
+    }
+}
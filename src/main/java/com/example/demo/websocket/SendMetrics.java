@@ -0,0 +1,17 @@
+package com.example.demo.websocket;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters shared by every {@link ClientConnection} of a handler.
+ */
+final class SendMetrics {
+
+    final AtomicLong queuedFrames = new AtomicLong();
+    final AtomicLong droppedFrames = new AtomicLong();
+    final AtomicLong slowConsumerDisconnects = new AtomicLong();
+    // Closed sessions found and removed while broadcasting
+    final AtomicLong evictedSessions = new AtomicLong();
+    final AtomicLong framesSent = new AtomicLong();
+    final AtomicLong bytesSent = new AtomicLong();
+}
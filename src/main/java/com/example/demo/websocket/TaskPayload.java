@@ -0,0 +1,38 @@
+package com.example.demo.websocket;
+
+import com.example.demo.model.Task;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Snapshot of the task fields pushed to WebSocket clients, written field by field
+ * so broadcasts never introspect the entity.
+ */
+public record TaskPayload(UUID id, String title, String description, boolean completed)
+        implements JsonSerializable {
+
+    public static TaskPayload from(Task task) {
+        return new TaskPayload(task.getId(), task.getTitle(), task.getDescription(), task.isCompleted());
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        FramePayloads.writeUuid(gen, "id", id);
+        gen.writeStringField("title", title);
+        gen.writeStringField("description", description);
+        gen.writeBooleanField("completed", completed);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.websocket;
+
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Collects task updates per event for a short window and hands them on as one batch.
+ * Repeated updates to the same task inside a window collapse to the latest snapshot.
+ */
+final class TaskUpdateCoalescer {
+
+    private final Map<String, Map<Object, Object>> pending = new ConcurrentHashMap<>();
+    private final TaskScheduler scheduler;
+    private final Duration window;
+    private final BiConsumer<String, List<Object>> sink;
+
+    TaskUpdateCoalescer(TaskScheduler scheduler, Duration window, BiConsumer<String, List<Object>> sink) {
+        this.scheduler = scheduler;
+        this.window = window;
+        this.sink = sink;
+    }
+
+    void add(String eventId, Object taskId, Object payload) {
+        boolean[] opened = new boolean[1];
+        pending.compute(eventId, (key, batch) -> {
+            if (batch == null) {
+                batch = new LinkedHashMap<>();
+                opened[0] = true;
+            }
+            // Re-insert so the task moves to the position of its latest update
+            batch.remove(taskId);
+            batch.put(taskId, payload);
+            return batch;
+        });
+        if (opened[0]) {
+            scheduler.schedule(() -> flush(eventId), Instant.now().plus(window));
+        }
+    }
+
+    // A deleted task must not be resurrected by an update still waiting in the window
+    void discard(String eventId, Object taskId) {
+        pending.computeIfPresent(eventId, (key, batch) -> {
+            batch.remove(taskId);
+            return batch;
+        });
+    }
+
+    void flush(String eventId) {
+        Map<Object, Object> batch = pending.remove(eventId);
+        if (batch != null && !batch.isEmpty()) {
+            sink.accept(eventId, new ArrayList<>(batch.values()));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update from the original entities.
+-- Databases that already have these tables are baselined at version 1 (spring.flyway.baseline-on-migrate)
+-- and skip this script, so it must not contain anything added since.
+
+create table event (
+    id uuid not null,
+    name varchar(255),
+    date date,
+    description varchar(255),
+    location varchar(255),
+    primary key (id)
+);
+
+create table attendee (
+    id uuid not null,
+    name varchar(255),
+    email varchar(255),
+    event_id uuid,
+    primary key (id),
+    constraint fk_attendee_event foreign key (event_id) references event (id)
+);
+
+create table task (
+    id uuid not null,
+    title varchar(255),
+    description varchar(255),
+    completed boolean not null,
+    deadline date,
+    event_id uuid,
+    assigned_attendee_id uuid,
+    primary key (id),
+    constraint fk_task_event foreign key (event_id) references event (id),
+    constraint fk_task_assigned_attendee foreign key (assigned_attendee_id) references attendee (id)
+);
+
+create table users (
+    id uuid not null,
+    email varchar(255) not null,
+    name varchar(255),
+    picture varchar(255),
+    supabase_user_id varchar(255),
+    role varchar(255) check (role in ('ADMIN', 'USER')),
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
@@ -0,0 +1,21 @@
+-- Optimistic lock versions, the per-row event version stamp and the tombstone table behind the delta
+-- sync feed. Guarded with "if not exists" because a database that ran those changes under the former
+-- ddl-auto=update already has them, and is still baselined at version 1.
+
+alter table event add column if not exists version bigint default 0 not null;
+
+alter table attendee add column if not exists version bigint default 0 not null;
+alter table attendee add column if not exists event_version bigint default 0 not null;
+
+alter table task add column if not exists version bigint default 0 not null;
+alter table task add column if not exists event_version bigint default 0 not null;
+
+create table if not exists tombstone (
+    id uuid not null,
+    event_id uuid not null,
+    entity_type varchar(255) not null check (entity_type in ('TASK', 'ATTENDEE')),
+    entity_id uuid not null,
+    event_version bigint not null,
+    deleted_at timestamp(6) with time zone,
+    primary key (id)
+);
@@ -0,0 +1,26 @@
+-- Indexes matched to the repository queries; each is also declared on its entity's @Table and
+-- checked at startup by SchemaIndexValidator.
+
+-- Keyset listing (event_id = ? and id > ? order by id), findByEventId, bulk updates, export
+create index if not exists idx_task_event_id on task (event_id, id);
+-- Listing filtered by completion, and the progress counter aggregates
+create index if not exists idx_task_event_completed on task (event_id, completed, id);
+-- Listing filtered by deadline range
+create index if not exists idx_task_event_deadline on task (event_id, deadline);
+-- Delta sync: an event's tasks changed after a version
+create index if not exists idx_task_event_version on task (event_id, event_version);
+-- Upcoming deadlines across all events
+create index if not exists idx_task_deadline on task (deadline);
+-- Assignee filter, and unassigning tasks when attendees are deleted
+create index if not exists idx_task_assigned_attendee on task (assigned_attendee_id);
+
+-- Keyset listing and findByEventId (email lookups use uk_attendee_event_email from V4)
+create index if not exists idx_attendee_event_id on attendee (event_id, id);
+create index if not exists idx_attendee_event_version on attendee (event_id, event_version);
+
+create index if not exists idx_tombstone_event_version on tombstone (event_id, event_version);
+
+create index if not exists idx_event_date on event (date);
+
+-- Principal lookup during authentication
+create index if not exists idx_users_supabase_user_id on users (supabase_user_id);
@@ -0,0 +1,68 @@
+-- One attendee per email within an event. Emails are stored trimmed and lower-cased from now on (the
+-- bulk import already deduplicated them that way), so a plain unique constraint compares them the same
+-- way. Earlier versions allowed duplicates through the single create endpoint: the attendee with the
+-- lowest id is kept, task assignments move over to it and the rest are deleted. The deletions and
+-- changed rows are stamped with a bumped event version, with tombstones for the deleted attendees, so
+-- delta sync clients pick them up.
+
+-- Every event with an attendee to delete or rewrite, or a task assigned to one that is deleted
+update event set version = version + 1
+where id in (
+    select duplicate.event_id from attendee duplicate
+    where duplicate.email <> lower(trim(duplicate.email))
+       or exists (select 1 from attendee keeper
+                  where keeper.event_id = duplicate.event_id
+                    and lower(trim(keeper.email)) = lower(trim(duplicate.email))
+                    and keeper.id < duplicate.id))
+   or id in (
+    select task.event_id from task
+    join attendee duplicate on duplicate.id = task.assigned_attendee_id
+    where exists (select 1 from attendee keeper
+                  where keeper.event_id = duplicate.event_id
+                    and lower(trim(keeper.email)) = lower(trim(duplicate.email))
+                    and keeper.id < duplicate.id));
+
+update task set
+    assigned_attendee_id = (
+        select keeper.id
+        from attendee duplicate
+        join attendee keeper on keeper.event_id = duplicate.event_id
+                            and lower(trim(keeper.email)) = lower(trim(duplicate.email))
+        where duplicate.id = task.assigned_attendee_id
+          and not exists (select 1 from attendee lower_id
+                          where lower_id.event_id = keeper.event_id
+                            and lower(trim(lower_id.email)) = lower(trim(keeper.email))
+                            and lower_id.id < keeper.id)),
+    version = version + 1,
+    event_version = (select event.version from event where event.id = task.event_id)
+where assigned_attendee_id in (
+    select duplicate.id
+    from attendee duplicate
+    where exists (select 1 from attendee keeper
+                  where keeper.event_id = duplicate.event_id
+                    and lower(trim(keeper.email)) = lower(trim(duplicate.email))
+                    and keeper.id < duplicate.id));
+
+-- The deleted attendee's id doubles as its tombstone's id: unique, and portable across databases
+insert into tombstone (id, event_id, entity_type, entity_id, event_version, deleted_at)
+select duplicate.id, duplicate.event_id, 'ATTENDEE', duplicate.id, event.version, current_timestamp
+from attendee duplicate
+join event on event.id = duplicate.event_id
+where exists (select 1 from attendee keeper
+              where keeper.event_id = duplicate.event_id
+                and lower(trim(keeper.email)) = lower(trim(duplicate.email))
+                and keeper.id < duplicate.id);
+
+delete from attendee
+where exists (select 1 from attendee keeper
+              where keeper.event_id = attendee.event_id
+                and lower(trim(keeper.email)) = lower(trim(attendee.email))
+                and keeper.id < attendee.id);
+
+update attendee set
+    email = lower(trim(email)),
+    version = version + 1,
+    event_version = (select event.version from event where event.id = attendee.event_id)
+where email <> lower(trim(email));
+
+alter table attendee add constraint uk_attendee_event_email unique (event_id, email);
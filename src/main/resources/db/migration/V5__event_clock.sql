@@ -0,0 +1,15 @@
+-- Per-event change clock, moved off the event row so that task and attendee changes no longer lock,
+-- update and evict the cached event. It continues from the event versions those changes used to bump;
+-- event.event_version stamps edits of the event itself, like the column of the same name on its children.
+
+create table event_clock (
+    event_id uuid not null,
+    version bigint not null,
+    primary key (event_id),
+    constraint fk_event_clock_event foreign key (event_id) references event (id)
+);
+
+insert into event_clock (event_id, version) select id, version from event;
+
+alter table event add column event_version bigint default 0 not null;
+update event set event_version = version;
@@ -0,0 +1,73 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.User;
+import com.example.demo.service.UserService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The rest of /api/events is open, but maintenance jobs and statistics resets must need an admin token
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:admin-endpoints;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"supabase.jwt.secret=" + AdminEndpointSecurityTest.SECRET
+})
+@AutoConfigureMockMvc
+class AdminEndpointSecurityTest {
+
+	static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserService userService;
+
+	@Test
+	void anonymousRequestsAreRejected() throws Exception {
+		mockMvc.perform(post("/api/events/maintenance/progress/rebuild")).andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/events/maintenance/jobs")).andExpect(status().isForbidden());
+		mockMvc.perform(delete("/api/events/cleanup-duplicates")).andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/events/test/cache/stats").param("reset", "1")).andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/events/test/cache/stats")).andExpect(status().isOk());
+	}
+
+	@Test
+	void usersNeedTheAdminRole() throws Exception {
+		userService.createUser("user@example.com", "User", null, User.Role.USER);
+		userService.createUser("admin@example.com", "Admin", null, User.Role.ADMIN);
+
+		mockMvc.perform(get("/api/events/maintenance/jobs").header("Authorization", bearer("user@example.com")))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/api/events/maintenance/jobs").header("Authorization", bearer("admin@example.com")))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/events/test/cache/stats").param("reset", "true")
+						.header("Authorization", bearer("admin@example.com")))
+				.andExpect(status().isOk());
+	}
+
+	private static String bearer(String email) {
+		return "Bearer " + Jwts.builder()
+				.setSubject(email)
+				.setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+				.signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+				.compact();
+	}
+}
@@ -0,0 +1,112 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.Event;
+import com.example.demo.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs under the surefire heap limit (-Xmx256m), which a fully buffered export would exceed.
+// File-backed H2 with lazy execution keeps the rows off-heap and streams them like a server-side cursor.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.datasource.url=jdbc:h2:file:./target/h2/export-test;LAZY_QUERY_EXECUTION=TRUE",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"supabase.jwt.secret=0123456789abcdef0123456789abcdef0123456789abcdef"
+})
+class ExportControllerTest {
+
+	private static final int ROWS = 1_000_000;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@Test
+	void streamsOneMillionAttendeesAsNdjson() throws Exception {
+		UUID eventId = createEvent("Export");
+		// Ascending ids keep the bulk insert fast on H2's B-tree
+		jdbcTemplate.update("insert into attendee (id, name, email, version, event_version, event_id) " +
+				"select cast('00000000-0000-4000-8000-' || lpad(x, 12, '0') as uuid), 'Attendee ' || x, 'attendee' || x || '@example.com', 0, 0, ? " +
+				"from system_range(1, ?)", eventId, ROWS);
+
+		HttpResponse<InputStream> response = get("/api/events/" + eventId + "/export/attendees?format=ndjson");
+		assertEquals(200, response.statusCode());
+		assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/x-ndjson"));
+
+		long lines = 0;
+		byte[] buffer = new byte[64 * 1024];
+		try (InputStream body = response.body()) {
+			int read;
+			while ((read = body.read(buffer)) != -1) {
+				for (int i = 0; i < read; i++) {
+					if (buffer[i] == '\n') {
+						lines++;
+					}
+				}
+			}
+		}
+		assertEquals(ROWS, lines);
+	}
+
+	@Test
+	void exportsTasksAsCsvWithQuoting() throws Exception {
+		UUID eventId = createEvent("CSV");
+		jdbcTemplate.update("insert into task (id, title, description, completed, version, event_version, event_id) " +
+				"values (random_uuid(), 'Book venue, catering', 'Say \"hi\"', true, 0, 0, ?)", eventId);
+
+		HttpResponse<InputStream> response = get("/api/events/" + eventId + "/export/tasks?format=csv");
+		assertEquals(200, response.statusCode());
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+			assertEquals("id,title,description,completed,deadline,assignedAttendeeId", reader.readLine());
+			String row = reader.readLine();
+			assertTrue(row.endsWith(",\"Book venue, catering\",\"Say \"\"hi\"\"\",true,,"), row);
+			assertEquals(null, reader.readLine());
+		}
+	}
+
+	@Test
+	void rejectsUnknownFormatAndMissingEvent() throws Exception {
+		UUID eventId = createEvent("Formats");
+		assertEquals(400, get("/api/events/" + eventId + "/export/tasks?format=xml").statusCode());
+		assertEquals(404, get("/api/events/" + UUID.randomUUID() + "/export/tasks").statusCode());
+	}
+
+	private UUID createEvent(String name) {
+		Event event = new Event();
+		event.setName(name);
+		event.setDate(LocalDate.now());
+		return eventRepository.save(event).getId();
+	}
+
+	private HttpResponse<InputStream> get(String path) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+		return client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+	}
+}
@@ -0,0 +1,111 @@
+package com.example.demo.controller;
+
+import com.example.demo.model.Attendee;
+import com.example.demo.model.Event;
+import com.example.demo.model.Task;
+import com.example.demo.repository.AttendeeRepository;
+import com.example.demo.repository.EventRepository;
+import com.example.demo.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Listing endpoints must cost one statement regardless of how many rows reference other entities
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:listing-query-count;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"supabase.jwt.secret=0123456789abcdef0123456789abcdef0123456789abcdef"
+})
+@AutoConfigureMockMvc
+class ListingQueryCountTest {
+
+	private static final int TASKS = 20;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private AttendeeRepository attendeeRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private UUID eventId;
+
+	@BeforeEach
+	void createEventWithAssignedTasks() {
+		Event event = new Event();
+		event.setName("Query count");
+		event.setDate(LocalDate.now());
+		event = eventRepository.save(event);
+		eventId = event.getId();
+
+		List<Attendee> attendees = new ArrayList<>();
+		for (int i = 0; i < TASKS; i++) {
+			Attendee attendee = new Attendee();
+			attendee.setName("Attendee " + i);
+			attendee.setEmail("attendee" + i + "@example.com");
+			attendee.setEvent(event);
+			attendees.add(attendeeRepository.save(attendee));
+		}
+		for (int i = 0; i < TASKS; i++) {
+			Task task = new Task();
+			task.setTitle("Task " + i);
+			task.setEvent(event);
+			task.setAssignedAttendee(attendees.get(i));
+			taskRepository.save(task);
+		}
+	}
+
+	@Test
+	void taskListingIsOneStatement() throws Exception {
+		Statistics statistics = statistics();
+		mockMvc.perform(get("/api/events/" + eventId + "/tasks"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(TASKS))
+				.andExpect(jsonPath("$[0].assignedAttendee.name").exists());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void attendeeListingIsOneStatement() throws Exception {
+		Statistics statistics = statistics();
+		mockMvc.perform(get("/api/events/" + eventId + "/attendees"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(TASKS));
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+}
@@ -0,0 +1,369 @@
+package com.example.demo.load;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.websocket.EventProgressWebSocketHandler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// End-to-end fan-out under load: thousands of /ws/events subscribers and a REST mix over the event, task
+// and attendee controllers. Reports REST p50/p99 per operation, mutation-to-frame latency at the subscribers,
+// delivery ratio and heap/GC use (mvn -Pload test -Dtest=FanOutLoadTest -Dload.wsClients=5000).
+// Clients run in the server's JVM, so heap and GC figures include the client side.
+@Tag("load")
+class FanOutLoadTest {
+
+	private static final int WS_CLIENTS = Integer.getInteger("load.wsClients", 2000);
+	private static final int REST_CLIENTS = Integer.getInteger("load.restClients", 50);
+	private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requestsPerClient", 200);
+	private static final int EVENTS = 20;
+	private static final int TASKS_PER_EVENT = 50;
+	private static final int ATTENDEES_PER_EVENT = 20;
+	// Spreads client-side frame decoding over several selector threads
+	private static final int WS_CLIENTS_PER_HTTP_CLIENT = 250;
+	private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+	// Mutations tag the title or name they write, so a frame can be matched to the request that caused it
+	private static final Pattern MARKER = Pattern.compile("\"(?:title|name)\"\\s*:\\s*\"lt-(\\d+)\"");
+
+	enum Op { LIST_EVENTS, LIST_TASKS, LIST_ATTENDEES, UPDATE_TASK, CREATE_TASK, CREATE_ATTENDEE }
+
+	// Cumulative weights out of 100
+	private static final int[] MIX = {10, 55, 70, 85, 95, 100};
+
+	private final Map<Long, Long> mutationSentAt = new ConcurrentHashMap<>();
+	private final AtomicLong nextMarker = new AtomicLong();
+	private final AtomicLong expectedDeliveries = new AtomicLong();
+	private final AtomicLong deliveries = new AtomicLong();
+	private final AtomicInteger deliveryCount = new AtomicInteger();
+	private long[] deliveryLatencies;
+
+	@Test
+	void restMutationsReachSubscribers() throws Exception {
+		try (ConfigurableApplicationContext context = SpringApplication.run(DemoApplication.class,
+				"--server.port=0",
+				"--DATASOURCE_PROFILE=direct",
+				"--database-profile.pool-size=10",
+				"--spring.datasource.url=jdbc:h2:mem:load-fanout;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"--spring.jpa.hibernate.ddl-auto=create-drop",
+				"--supabase.jwt.secret=0123456789abcdef0123456789abcdef0123456789abcdef",
+				"--access-log.enabled=false",
+				"--logging.level.root=WARN")) {
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			String baseUrl = "http://localhost:" + port + "/api/events";
+			HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+			List<Seeded> events = seed(client, baseUrl);
+
+			int[] subscribers = new int[EVENTS];
+			List<WebSocket> sockets = connect(URI.create("ws://localhost:" + port + "/ws/events"), events, subscribers);
+			int maxSubscribers = Arrays.stream(subscribers).max().orElse(0);
+			deliveryLatencies = new long[REST_CLIENTS * REQUESTS_PER_CLIENT * maxSubscribers];
+
+			// Untimed pass so the measured run sees warm JIT, pools and queues
+			drive(client, baseUrl, events, subscribers, 10, 20, new AtomicInteger());
+			awaitDeliveries();
+			mutationSentAt.clear();
+			deliveryCount.set(0);
+			deliveries.set(0);
+			expectedDeliveries.set(0);
+
+			List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+					.filter(pool -> pool.getType() == MemoryType.HEAP).toList();
+			heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+			long[] gcBefore = gcTotals();
+
+			AtomicInteger errors = new AtomicInteger();
+			long begin = System.nanoTime();
+			Sample[] samples = drive(client, baseUrl, events, subscribers, REST_CLIENTS, REQUESTS_PER_CLIENT, errors);
+			double seconds = (System.nanoTime() - begin) / 1e9;
+			awaitDeliveries();
+
+			long[] gcAfter = gcTotals();
+			long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+			EventProgressWebSocketHandler handler = context.getBean(EventProgressWebSocketHandler.class);
+
+			System.out.printf("%n%d WebSocket clients on %d events, %d REST clients x %d requests in %.1f s (%.0f req/s)%n",
+					sockets.size(), EVENTS, REST_CLIENTS, REQUESTS_PER_CLIENT, seconds, samples.length / seconds);
+			System.out.printf("%-16s %8s %8s %8s %8s%n", "operation", "count", "p50 ms", "p99 ms", "max ms");
+			for (Op op : Op.values()) {
+				long[] latencies = Arrays.stream(samples).filter(s -> s.op == op).mapToLong(s -> s.nanos).sorted().toArray();
+				if (latencies.length > 0) {
+					System.out.printf("%-16s %8d %8.1f %8.1f %8.1f%n", op, latencies.length,
+							percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+				}
+			}
+			long[] e2e = Arrays.copyOf(deliveryLatencies, Math.min(deliveryCount.get(), deliveryLatencies.length));
+			Arrays.sort(e2e);
+			if (e2e.length > 0) {
+				System.out.printf("%-16s %8d %8.1f %8.1f %8.1f%n", "REST->WS frame", e2e.length,
+						percentile(e2e, 0.50), percentile(e2e, 0.99), e2e[e2e.length - 1] / 1e6);
+			}
+			System.out.printf("frames delivered %d of at most %d, %d dropped by send queues%n",
+					deliveries.get(), expectedDeliveries.get(), handler.getDroppedFrameCount());
+			System.out.printf("peak heap %d MB, %d GCs taking %d ms%n",
+					peakHeap >> 20, gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+
+			sockets.forEach(socket -> socket.sendClose(WebSocket.NORMAL_CLOSURE, "done"));
+			assertEquals(0, errors.get(), "run had failed requests");
+			assertTrue(deliveries.get() > 0, "no mutation reached a subscriber");
+		}
+	}
+
+	// Opens the clients round-robin over the events and waits until each has its SUBSCRIBED acknowledgement
+	private List<WebSocket> connect(URI endpoint, List<Seeded> events, int[] subscribers) throws Exception {
+		CountDownLatch subscribed = new CountDownLatch(WS_CLIENTS);
+		List<WebSocket> sockets = new ArrayList<>(WS_CLIENTS);
+		HttpClient wsClient = null;
+		List<CompletableFuture<WebSocket>> pending = new ArrayList<>();
+		for (int c = 0; c < WS_CLIENTS; c++) {
+			if (c % WS_CLIENTS_PER_HTTP_CLIENT == 0) {
+				wsClient = HttpClient.newHttpClient();
+			}
+			int event = c % EVENTS;
+			subscribers[event]++;
+			pending.add(wsClient.newWebSocketBuilder()
+					.connectTimeout(Duration.ofSeconds(30))
+					.buildAsync(URI.create(endpoint + "?eventIds=" + events.get(event).id), new Subscriber(subscribed)));
+			// Bounded batches keep the handshake backlog below the server's accept queue
+			if (pending.size() == 200) {
+				pending.forEach(future -> sockets.add(future.join()));
+				pending.clear();
+			}
+		}
+		pending.forEach(future -> sockets.add(future.join()));
+		assertTrue(subscribed.await(60, TimeUnit.SECONDS), "timed out waiting for SUBSCRIBED");
+		return sockets;
+	}
+
+	private Sample[] drive(HttpClient client, String baseUrl, List<Seeded> events, int[] subscribers,
+						   int clients, int requestsPerClient, AtomicInteger errors) throws InterruptedException {
+		Sample[] samples = new Sample[clients * requestsPerClient];
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int c = 0; c < clients; c++) {
+			int offset = c * requestsPerClient;
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+					for (int r = 0; r < requestsPerClient; r++) {
+						ThreadLocalRandom random = ThreadLocalRandom.current();
+						int event = random.nextInt(events.size());
+						Seeded seeded = events.get(event);
+						Op op = pick(random.nextInt(100));
+						long marker = nextMarker.incrementAndGet();
+						HttpRequest request = switch (op) {
+							case LIST_EVENTS -> get(baseUrl + "?limit=50");
+							case LIST_TASKS -> get(baseUrl + "/" + seeded.id + "/tasks?limit=50");
+							case LIST_ATTENDEES -> get(baseUrl + "/" + seeded.id + "/attendees?limit=50");
+							case UPDATE_TASK -> put(baseUrl + "/" + seeded.id + "/tasks/"
+											+ seeded.taskIds.get(random.nextInt(seeded.taskIds.size())),
+									"{\"title\":\"lt-" + marker + "\",\"completed\":" + random.nextBoolean() + "}");
+							case CREATE_TASK -> post(baseUrl + "/" + seeded.id + "/tasks",
+									"{\"title\":\"lt-" + marker + "\",\"deadline\":\"2026-12-01\"}");
+							case CREATE_ATTENDEE -> post(baseUrl + "/" + seeded.id + "/attendees",
+									"{\"name\":\"lt-" + marker + "\",\"email\":\"lt-" + marker + "@example.com\"}");
+						};
+						boolean mutation = op.ordinal() >= Op.UPDATE_TASK.ordinal();
+						long begin = System.nanoTime();
+						if (mutation) {
+							mutationSentAt.put(marker, begin);
+						}
+						try {
+							if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+								if (mutation) {
+									expectedDeliveries.addAndGet(subscribers[event]);
+								}
+							} else {
+								errors.incrementAndGet();
+							}
+						} catch (Exception e) {
+							errors.incrementAndGet();
+						}
+						samples[offset + r] = new Sample(op, System.nanoTime() - begin);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		return samples;
+	}
+
+	// Waits for the send queues and the task-update coalescing window to drain. Updates to the same task
+	// inside one window arrive as a single TASK_BATCH entry, so the expected count is an upper bound and
+	// the wait also ends once nothing has arrived for a second
+	private void awaitDeliveries() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+		long last = -1;
+		int idleTicks = 0;
+		while (deliveries.get() < expectedDeliveries.get() && System.nanoTime() < deadline && idleTicks < 20) {
+			Thread.sleep(50);
+			long current = deliveries.get();
+			idleTicks = current == last ? idleTicks + 1 : 0;
+			last = current;
+		}
+	}
+
+	private static Op pick(int roll) {
+		for (int i = 0; i < MIX.length; i++) {
+			if (roll < MIX[i]) {
+				return Op.values()[i];
+			}
+		}
+		return Op.LIST_TASKS;
+	}
+
+	private static List<Seeded> seed(HttpClient client, String baseUrl) throws Exception {
+		List<Seeded> events = new ArrayList<>();
+		for (int e = 0; e < EVENTS; e++) {
+			Seeded seeded = new Seeded(idOf(client.send(post(baseUrl,
+					"{\"name\":\"Load " + e + "\",\"date\":\"2026-12-01\",\"location\":\"Hall\"}"),
+					HttpResponse.BodyHandlers.ofString()).body()));
+			for (int t = 0; t < TASKS_PER_EVENT; t++) {
+				seeded.taskIds.add(idOf(client.send(post(baseUrl + "/" + seeded.id + "/tasks",
+						"{\"title\":\"Task " + t + "\"}"), HttpResponse.BodyHandlers.ofString()).body()));
+			}
+			for (int a = 0; a < ATTENDEES_PER_EVENT; a++) {
+				client.send(post(baseUrl + "/" + seeded.id + "/attendees",
+						"{\"name\":\"Attendee " + a + "\",\"email\":\"seed" + e + "-" + a + "@example.com\"}"),
+						HttpResponse.BodyHandlers.discarding());
+			}
+			events.add(seeded);
+		}
+		return events;
+	}
+
+	private static long[] gcTotals() {
+		long count = 0;
+		long millis = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, gc.getCollectionCount());
+			millis += Math.max(0, gc.getCollectionTime());
+		}
+		return new long[]{count, millis};
+	}
+
+	private static String idOf(String json) {
+		Matcher matcher = ID.matcher(json);
+		if (!matcher.find()) {
+			throw new IllegalStateException("No id in " + json);
+		}
+		return matcher.group(1);
+	}
+
+	private static HttpRequest get(String url) {
+		return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(60)).GET().build();
+	}
+
+	private static HttpRequest post(String url, String json) {
+		return HttpRequest.newBuilder(URI.create(url))
+				.timeout(Duration.ofSeconds(60))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+	}
+
+	private static HttpRequest put(String url, String json) {
+		return HttpRequest.newBuilder(URI.create(url))
+				.timeout(Duration.ofSeconds(60))
+				.header("Content-Type", "application/json")
+				.PUT(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+	}
+
+	private record Sample(Op op, long nanos) {
+	}
+
+	private static final class Seeded {
+
+		final String id;
+		final List<String> taskIds = new ArrayList<>();
+
+		Seeded(String id) {
+			this.id = id;
+		}
+	}
+
+	// Reassembles frames and records, for every marker in them, the time since its request was sent
+	private final class Subscriber implements WebSocket.Listener {
+
+		private final CountDownLatch subscribed;
+		private final StringBuilder partial = new StringBuilder();
+		private boolean acknowledged;
+
+		Subscriber(CountDownLatch subscribed) {
+			this.subscribed = subscribed;
+		}
+
+		@Override
+		public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+			partial.append(data);
+			if (last) {
+				long now = System.nanoTime();
+				String frame = partial.toString();
+				partial.setLength(0);
+				if (!acknowledged && frame.contains("\"SUBSCRIBED\"")) {
+					acknowledged = true;
+					subscribed.countDown();
+				}
+				Matcher matcher = MARKER.matcher(frame);
+				while (matcher.find()) {
+					Long sentAt = mutationSentAt.get(Long.parseLong(matcher.group(1)));
+					if (sentAt != null) {
+						deliveries.incrementAndGet();
+						int index = deliveryCount.getAndIncrement();
+						if (index < deliveryLatencies.length) {
+							deliveryLatencies[index] = now - sentAt;
+						}
+					}
+				}
+			}
+			webSocket.request(1);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package com.example.demo.load;
+
+import com.example.demo.DemoApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// p99 latency with 1k concurrent HTTP clients, platform vs virtual request threads (mvn -Pload test)
+@Tag("load")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ThreadModelLoadTest {
+
+	private static final int CLIENTS = 1000;
+	private static final int REQUESTS_PER_CLIENT = 10;
+	private static final int WARMUP_CLIENTS = 50;
+	private static final int WARMUP_REQUESTS_PER_CLIENT = 40;
+	private static final int EVENTS = 20;
+	private static final int TASKS_PER_EVENT = 50;
+	private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+
+	private static final Map<String, String> results = new LinkedHashMap<>();
+
+	@Test
+	@Order(1)
+	void platformThreads() throws Exception {
+		run("platform", false);
+	}
+
+	@Test
+	@Order(2)
+	void virtualThreads() throws Exception {
+		assumeTrue(Runtime.version().feature() >= 21, "virtual threads need Java 21");
+		run("virtual", true);
+	}
+
+	@AfterAll
+	static void report() {
+		System.out.printf("%n%-10s %8s %8s %8s %8s %10s%n", "threads", "p50 ms", "p99 ms", "max ms", "errors", "req/s");
+		results.values().forEach(System.out::println);
+	}
+
+	private void run(String label, boolean virtual) throws Exception {
+		try (ConfigurableApplicationContext context = SpringApplication.run(DemoApplication.class,
+				"--server.port=0",
+				"--spring.threads.virtual.enabled=" + virtual,
+				"--DATASOURCE_PROFILE=direct",
+				"--database-profile.pool-size=10",
+				"--spring.datasource.url=jdbc:h2:mem:load-" + label + ";DB_CLOSE_DELAY=-1",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+				"--spring.jpa.hibernate.ddl-auto=create-drop",
+				"--supabase.jwt.secret=0123456789abcdef0123456789abcdef0123456789abcdef",
+				"--logging.level.root=WARN")) {
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			String baseUrl = "http://localhost:" + port + "/api/events";
+			HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+			List<String> eventIds = seed(client, baseUrl);
+
+			// Untimed pass so both runs are measured with warm JIT and pools
+			drive(client, baseUrl, eventIds, WARMUP_CLIENTS, WARMUP_REQUESTS_PER_CLIENT, new AtomicInteger());
+
+			AtomicInteger errors = new AtomicInteger();
+			long begin = System.nanoTime();
+			long[] latencies = drive(client, baseUrl, eventIds, CLIENTS, REQUESTS_PER_CLIENT, errors);
+			double seconds = (System.nanoTime() - begin) / 1e9;
+
+			Arrays.sort(latencies);
+			results.put(label, String.format("%-10s %8.1f %8.1f %8.1f %8d %10.0f", label,
+					percentile(latencies, 0.50), percentile(latencies, 0.99),
+					latencies[latencies.length - 1] / 1e6, errors.get(), latencies.length / seconds));
+			assertEquals(0, errors.get(), label + " run had failed requests");
+		}
+	}
+
+	// Starts all clients together; each sends its requests back to back and records their latencies
+	private static long[] drive(HttpClient client, String baseUrl, List<String> eventIds,
+								int clients, int requestsPerClient, AtomicInteger errors) throws InterruptedException {
+		long[] latencies = new long[clients * requestsPerClient];
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int c = 0; c < clients; c++) {
+			int offset = c * requestsPerClient;
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+					for (int r = 0; r < requestsPerClient; r++) {
+						String eventId = eventIds.get(ThreadLocalRandom.current().nextInt(eventIds.size()));
+						// One request in ten writes, so the run includes the per-event lock
+						HttpRequest request = r % 10 == 9
+								? post(baseUrl + "/" + eventId + "/tasks", "{\"title\":\"Load task\"}")
+								: HttpRequest.newBuilder(URI.create(baseUrl + "/" + eventId + "/tasks?limit=50"))
+										.timeout(Duration.ofSeconds(60)).GET().build();
+						long begin = System.nanoTime();
+						try {
+							if (client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode() != 200) {
+								errors.incrementAndGet();
+							}
+						} catch (Exception e) {
+							errors.incrementAndGet();
+						}
+						latencies[offset + r] = System.nanoTime() - begin;
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		return latencies;
+	}
+
+	private static List<String> seed(HttpClient client, String baseUrl) throws Exception {
+		List<String> eventIds = new ArrayList<>();
+		for (int e = 0; e < EVENTS; e++) {
+			String body = client.send(post(baseUrl,
+					"{\"name\":\"Load " + e + "\",\"date\":\"2026-12-01\",\"location\":\"Hall\"}"),
+					HttpResponse.BodyHandlers.ofString()).body();
+			Matcher matcher = ID.matcher(body);
+			matcher.find();
+			String eventId = matcher.group(1);
+			eventIds.add(eventId);
+			for (int t = 0; t < TASKS_PER_EVENT; t++) {
+				client.send(post(baseUrl + "/" + eventId + "/tasks", "{\"title\":\"Task " + t + "\"}"),
+						HttpResponse.BodyHandlers.discarding());
+			}
+		}
+		return eventIds;
+	}
+
+	private static HttpRequest post(String url, String json) {
+		return HttpRequest.newBuilder(URI.create(url))
+				.timeout(Duration.ofSeconds(60))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json))
+				.build();
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+	}
+}
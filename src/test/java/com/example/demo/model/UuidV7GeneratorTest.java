@@ -0,0 +1,61 @@
+package com.example.demo.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Ids must sort by creation order the way Postgres compares uuid values: byte-wise, high bits first
+class UuidV7GeneratorTest {
+
+	@Test
+	void idsAreVersion7AndIncreasing() {
+		long before = System.currentTimeMillis();
+		UUID previous = UuidV7Generator.next();
+		for (int i = 0; i < 100_000; i++) {
+			UUID id = UuidV7Generator.next();
+			assertEquals(7, id.version());
+			assertEquals(2, id.variant());
+			assertTrue(Long.compareUnsigned(id.getMostSignificantBits(), previous.getMostSignificantBits()) > 0,
+					previous + " then " + id);
+			previous = id;
+		}
+		assertTrue((previous.getMostSignificantBits() >>> 16) >= before);
+	}
+
+	@Test
+	void concurrentCallersNeverShareAnId() throws InterruptedException {
+		int threads = 8;
+		int perThread = 50_000;
+		Set<UUID> ids = ConcurrentHashMap.newKeySet();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> workers = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			Thread worker = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < perThread; i++) {
+					ids.add(UuidV7Generator.next());
+				}
+			});
+			worker.start();
+			workers.add(worker);
+		}
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		assertEquals(threads * perThread, ids.size());
+	}
+}
@@ -0,0 +1,122 @@
+package com.example.demo.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The schema comes from the Flyway migrations (ddl-auto=validate, so startup fails if it drifts from the
+// entities), and the repository query shapes must be answered from the indexes those migrations declare
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:index-usage;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"supabase.jwt.secret=0123456789abcdef0123456789abcdef0123456789abcdef"
+})
+class IndexUsageTest {
+
+	private final UUID eventId = UUID.randomUUID();
+	private final UUID after = UUID.randomUUID();
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private Flyway flyway;
+
+	@Test
+	void migrationsAreApplied() {
+		assertEquals(0, flyway.info().pending().length);
+		assertEquals("5", flyway.info().current().getVersion().getVersion());
+	}
+
+	@Test
+	void taskPageUsesEventAndIdIndex() {
+		assertUses("IDX_TASK_EVENT_ID",
+				"select id from task where event_id = ? and id > ? order by id limit 50", eventId, after);
+	}
+
+	@Test
+	void completedFilterUsesCompletedIndex() {
+		assertUses("IDX_TASK_EVENT_COMPLETED",
+				"select id from task where event_id = ? and completed = ? and id > ? order by id limit 50",
+				eventId, false, after);
+	}
+
+	@Test
+	void deadlineFilterUsesDeadlineIndex() {
+		assertUses("IDX_TASK_EVENT_DEADLINE",
+				"select id from task where event_id = ? and deadline >= ? and deadline <= ?",
+				eventId, LocalDate.now(), LocalDate.now().plusDays(7));
+	}
+
+	@Test
+	void upcomingDeadlinesUseDeadlineIndex() {
+		assertUses("IDX_TASK_DEADLINE",
+				"select id, event_id, deadline from task where deadline >= ? and deadline < ? and completed = false",
+				LocalDate.now(), LocalDate.now().plusDays(2));
+	}
+
+	// H2 backs the foreign key with an index of its own on the same column and may plan with either;
+	// Postgres creates none for foreign keys, so there only idx_task_assigned_attendee serves the lookup
+	@Test
+	void assigneeLookupUsesAssigneeIndex() {
+		assertUsesOneOf(List.of("IDX_TASK_ASSIGNED_ATTENDEE", "FK_TASK_ASSIGNED_ATTENDEE_INDEX"),
+				"select id from task where assigned_attendee_id = ?", UUID.randomUUID());
+	}
+
+	@Test
+	void deltaSyncUsesEventVersionIndexes() {
+		assertUses("IDX_TASK_EVENT_VERSION",
+				"select id from task where event_id = ? and event_version > ?", eventId, 10L);
+		assertUses("IDX_ATTENDEE_EVENT_VERSION",
+				"select id from attendee where event_id = ? and event_version > ?", eventId, 10L);
+		assertUses("IDX_TOMBSTONE_EVENT_VERSION",
+				"select entity_id from tombstone where event_id = ? and event_version > ?", eventId, 10L);
+	}
+
+	@Test
+	void attendeeEmailLookupUsesUniqueConstraint() {
+		assertUses("UK_ATTENDEE_EVENT_EMAIL",
+				"select id from attendee where event_id = ? and email = ?", eventId, "a@example.com");
+	}
+
+	@Test
+	void attendeePageUsesEventAndIdIndex() {
+		assertUses("IDX_ATTENDEE_EVENT_ID",
+				"select id from attendee where event_id = ? and id > ? order by id limit 50", eventId, after);
+	}
+
+	@Test
+	void principalLookupUsesSupabaseUserIdIndex() {
+		assertUses("IDX_USERS_SUPABASE_USER_ID",
+				"select id from users where supabase_user_id = ?", "user-1");
+	}
+
+	@Test
+	void eventDateRangeUsesDateIndex() {
+		assertUses("IDX_EVENT_DATE",
+				"select id from event where date >= ? and date <= ?", LocalDate.now(), LocalDate.now().plusDays(30));
+	}
+
+	// H2 names the chosen index in a comment after each table in the plan
+	private void assertUses(String index, String sql, Object... args) {
+		assertUsesOneOf(List.of(index), sql, args);
+	}
+
+	private void assertUsesOneOf(List<String> indexes, String sql, Object... args) {
+		String plan = jdbcTemplate.queryForObject("explain " + sql, String.class, args).toUpperCase();
+		assertTrue(indexes.stream().anyMatch(plan::contains), "expected one of " + indexes + " in plan:\n" + plan);
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.demo.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// A database created by the former ddl-auto=update holds only the original tables (plus whatever of the
+// later columns update added); baselined at V1 it must still be migrated to what the entities map, with
+// duplicate attendees merged in a way delta sync clients can see
+class MigrationBaselineTest {
+
+	private final String url = "jdbc:h2:mem:baseline-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+	@Test
+	void baselinedDatabaseReceivesTheLaterMigrations() throws SQLException {
+		UUID eventId = UUID.randomUUID();
+		UUID keeper = new UUID(0, 1);
+		UUID duplicate = new UUID(0, 2);
+		UUID taskId = UUID.randomUUID();
+		try (Connection connection = DriverManager.getConnection(url, "sa", "");
+			 Statement statement = connection.createStatement()) {
+			statement.execute("runscript from 'classpath:db/migration/V1__baseline_schema.sql'");
+			// Already added by ddl-auto=update while it was still in use
+			statement.execute("alter table task add column version bigint default 0 not null");
+			statement.execute("insert into event (id, name) values ('" + eventId + "', 'Existing event')");
+			// Same address once case and spacing are normalized; the import already treated them as one
+			statement.execute("insert into attendee (id, name, email, event_id) values ('"
+					+ keeper + "', 'Ada', 'Ada@Example.com', '" + eventId + "')");
+			statement.execute("insert into attendee (id, name, email, event_id) values ('"
+					+ duplicate + "', 'Ada again', ' ada@example.com', '" + eventId + "')");
+			statement.execute("insert into task (id, title, completed, event_id, assigned_attendee_id) values ('"
+					+ taskId + "', 'Existing task', false, '" + eventId + "', '" + duplicate + "')");
+		}
+
+		Flyway flyway = Flyway.configure()
+				.dataSource(url, "sa", "")
+				.baselineOnMigrate(true)
+				.baselineVersion("1")
+				.load();
+		flyway.migrate();
+
+		MigrationInfo[] applied = flyway.info().applied();
+		assertEquals("1", applied[0].getVersion().getVersion());
+		assertEquals("<< Flyway Baseline >>", applied[0].getDescription());
+		assertEquals("5", flyway.info().current().getVersion().getVersion());
+		try (Connection connection = DriverManager.getConnection(url, "sa", "");
+			 Statement statement = connection.createStatement()) {
+			assertEquals(1L, single(statement, "select version from event"));
+			assertEquals(1L, single(statement, "select version from event_clock where event_id = '" + eventId + "'"));
+			assertEquals(1L, single(statement, "select count(*) from attendee"));
+			assertEquals("ada@example.com", text(statement, "select email from attendee where id = '" + keeper + "'"));
+			assertEquals(1L, single(statement, "select event_version from attendee"));
+			assertEquals(keeper.toString(), text(statement, "select assigned_attendee_id from task"));
+			assertEquals(1L, single(statement, "select event_version from task"));
+			assertEquals(duplicate.toString(), text(statement,
+					"select entity_id from tombstone where entity_type = 'ATTENDEE' and event_version = 1"));
+			statement.execute("drop all objects");
+		}
+	}
+
+	private static String text(Statement statement, String sql) throws SQLException {
+		try (ResultSet row = statement.executeQuery(sql)) {
+			row.next();
+			return row.getString(1);
+		}
+	}
+
+	private static long single(Statement statement, String sql) throws SQLException {
+		try (ResultSet row = statement.executeQuery(sql)) {
+			row.next();
+			return row.getLong(1);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Entries must fire on the first tick at or after their expiration, whichever level they were
+// placed on and however far the wheel jumps in one advance
+class TimingWheelTest {
+
+	private static final long TICK = 1000;
+	private static final long START = 1_700_000_000_500L;
+
+	private static final class Timer extends TimingWheel.Entry {
+	}
+
+	@Test
+	void entriesFireOnTheirTickAcrossLevels() {
+		TimingWheel<Timer> wheel = new TimingWheel<>(TICK, 8, 3_600_000, START);
+		Random random = new Random(42);
+		for (int i = 0; i < 20_000; i++) {
+			assertTrue(wheel.schedule(new Timer(), START + random.nextInt(3_600_000)));
+		}
+		int[] misfired = {0};
+		int[] fired = {0};
+		long now = START;
+		while (wheel.size() > 0) {
+			long previous = wheel.currentTime();
+			now += TICK * (1 + random.nextInt(50));
+			wheel.advance(now, timer -> {
+				fired[0]++;
+				if (timer.expiresAt > wheel.currentTime() || timer.expiresAt <= previous) {
+					misfired[0]++;
+				}
+			});
+		}
+		assertEquals(20_000, fired[0]);
+		assertEquals(0, misfired[0]);
+	}
+
+	@Test
+	void expirationIsRoundedUpToTheTick() {
+		TimingWheel<Timer> wheel = new TimingWheel<>(TICK, 8, 60_000, START);
+		long start = wheel.currentTime();
+		wheel.schedule(new Timer(), start + 5 * TICK + 1);
+		List<Long> firedAt = new ArrayList<>();
+		wheel.advance(start + 10 * TICK, timer -> firedAt.add(wheel.currentTime()));
+		assertEquals(List.of(start + 6 * TICK), firedAt);
+	}
+
+	@Test
+	void pastExpirationsFireOnTheNextTick() {
+		TimingWheel<Timer> wheel = new TimingWheel<>(TICK, 8, 60_000, START);
+		Timer timer = new Timer();
+		assertTrue(wheel.schedule(timer, START - 10 * TICK));
+		List<Timer> fired = new ArrayList<>();
+		wheel.advance(wheel.currentTime() + TICK, fired::add);
+		assertEquals(List.of(timer), fired);
+	}
+
+	@Test
+	void cancelledAndRescheduledEntriesFireOnceAtTheLatestTime() {
+		TimingWheel<Timer> wheel = new TimingWheel<>(TICK, 8, 3_600_000, START);
+		Timer cancelled = new Timer();
+		Timer moved = new Timer();
+		wheel.schedule(cancelled, START + 100 * TICK);
+		wheel.schedule(moved, START + 100 * TICK);
+		wheel.schedule(moved, START + 2000 * TICK);
+		assertTrue(wheel.cancel(cancelled));
+		assertFalse(wheel.cancel(cancelled));
+		assertEquals(1, wheel.size());
+		List<Long> firedAt = new ArrayList<>();
+		wheel.advance(START + 3000 * TICK, timer -> firedAt.add(wheel.currentTime()));
+		assertEquals(List.of(moved.expiresAt), firedAt);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void expirationsBeyondTheHorizonAreRejected() {
+		TimingWheel<Timer> wheel = new TimingWheel<>(TICK, 8, 60_000, START);
+		Timer timer = new Timer();
+		assertFalse(wheel.schedule(timer, START + 3_600_000));
+		assertFalse(timer.isScheduled());
+		assertEquals(0, wheel.size());
+	}
+}
@@ -0,0 +1,42 @@
+package com.example.demo.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Broadcasts finish fanning out in any order; the published watermark may only pass a frame once
+// every frame before it is done, or connections would skip frames still on their way
+class ChangeLogTest {
+
+	@Test
+	void publishedSeqWaitsForTheOldestFrameInFlight() {
+		ChangeLog log = new ChangeLog(8);
+		for (long seq = 1; seq <= 3; seq++) {
+			log.append(seq, "e", new TextMessage("frame " + seq));
+		}
+		assertEquals(0, log.publishedSeq());
+
+		log.published(3);
+		log.published(2);
+		assertEquals(0, log.publishedSeq());
+
+		log.published(1);
+		assertEquals(3, log.publishedSeq());
+	}
+
+	@Test
+	void framesBetweenKeepsGlobalAndSubscribedFramesInRange() {
+		ChangeLog log = new ChangeLog(8);
+		log.append(1, "a", new TextMessage("1"));
+		log.append(2, "b", new TextMessage("2"));
+		log.append(3, null, new TextMessage("3"));
+		log.append(4, "a", new TextMessage("4"));
+
+		List<TextMessage> frames = log.framesBetween(1, 3, Set.of("a"));
+		assertEquals(List.of("3"), frames.stream().map(TextMessage::getPayload).toList());
+	}
+}